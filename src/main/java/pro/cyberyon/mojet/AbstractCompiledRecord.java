@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.text.TextStringBuilder;
+import pro.cyberyon.mojet.Fragment.PadWay;
+import pro.cyberyon.mojet.types.Codec;
+import pro.cyberyon.mojet.types.TypeHandler;
+
+/**
+ * Skeleton class of the records generated by the annotation processor.
+ *
+ * @param <T> type of pojo
+ * @author Guillaume CHAUVET
+ */
+public abstract class AbstractCompiledRecord<T> implements CompiledRecord<T> {
+
+	@Getter
+	private final Class<T> type;
+
+	@Getter
+	private final int length;
+
+	/**
+	 * Construct a compiled record
+	 *
+	 * @param type   the pojo class
+	 * @param length the record length
+	 */
+	protected AbstractCompiledRecord(@NonNull final Class<T> type, final int length) {
+		this.type = type;
+		this.length = length;
+	}
+
+	/**
+	 * Check a handler can manage a field type, and bind it to a fragment
+	 *
+	 * @param handler the handler instance
+	 * @param type    the field type
+	 * @param format  the fragment format
+	 * @param length  the fragment length
+	 * @return the bound codec
+	 * @throws MojetRuntimeException if the handler can't manage the type or
+	 *                               the format is invalid
+	 */
+	protected static Codec<?> codec(final TypeHandler<?> handler, final Class<?> type, final String format, final int length) {
+		if (!handler.accept(type)) {
+			throw new MojetRuntimeException("Handler can't manage this class type");
+		}
+		try {
+			return handler.bind(format, length);
+		} catch (IllegalArgumentException ex) {
+			throw new MojetRuntimeException("Invalid format " + format, ex);
+		}
+	}
+
+	/**
+	 * Read a fragment area of a line
+	 *
+	 * @param line      the line to read
+	 * @param start     the fragment offset
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param codec     the fragment codec
+	 * @param optional  <code>true</code> if optional
+	 * @return the value read, or null
+	 */
+	protected static Object read(final String line, final int start, final int length, final char padder, final PadWay alignment, final Codec<?> codec, final boolean optional) {
+		try {
+			return Fragments.read(line, start, length, padder, alignment, codec);
+		} catch (Exception ex) {
+			if (!optional) {
+				throw new MojetRuntimeException("Unable to handle data", ex);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Get the start index of the data of a fragment area, leading padding
+	 * excluded
+	 *
+	 * @param line      the line to read
+	 * @param start     the fragment offset
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @return the data start index (inclusive)
+	 */
+	protected static int start(final String line, final int start, final int length, final char padder, final PadWay alignment) {
+		return Fragments.start(line, start, length, padder, alignment);
+	}
+
+	/**
+	 * Get the end index of the data of a fragment area, trailing padding
+	 * excluded
+	 *
+	 * @param line      the line to read
+	 * @param from      the data start index
+	 * @param end       the fragment end offset
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @return the data end index (exclusive)
+	 */
+	protected static int end(final String line, final int from, final int end, final char padder, final PadWay alignment) {
+		return Fragments.end(line, from, end, padder, alignment);
+	}
+
+	/**
+	 * Handle a failure of a fragment mapping
+	 *
+	 * @param ex       the failure
+	 * @param optional <code>true</code> if the fragment is optional
+	 * @throws MojetRuntimeException if the fragment is not optional
+	 */
+	protected static void failure(final Exception ex, final boolean optional) {
+		if (!optional) {
+			throw new MojetRuntimeException("Unable to handle data", ex);
+		}
+	}
+
+	/**
+	 * Write a fragment area
+	 *
+	 * @param output    the output to append to
+	 * @param value     the value to write
+	 * @param codec     the fragment codec
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	protected static void write(final TextStringBuilder output, final Object value, final Codec<?> codec, final int length, final char padder, final PadWay alignment, final boolean truncable) {
+		Fragments.write(output, value, codec, length, padder, alignment, truncable);
+	}
+
+	/**
+	 * Write a fragment area holding the decimal digits of a number
+	 *
+	 * @param output    the output to append to
+	 * @param value     the number to write
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	protected static void write(final TextStringBuilder output, final long value, final int length, final char padder, final PadWay alignment, final boolean truncable) {
+		Fragments.write(output, value, length, padder, alignment, truncable);
+	}
+
+	/**
+	 * Write an encoded fragment area
+	 *
+	 * @param output    the output to append to
+	 * @param encoded   the value encoded by its codec
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	protected static void write(final TextStringBuilder output, final String encoded, final int length, final char padder, final PadWay alignment, final boolean truncable) {
+		Fragments.write(output, encoded, length, padder, alignment, truncable);
+	}
+
+}
@@ -15,15 +15,8 @@
  */
 package pro.cyberyon.mojet;
 
-import java.util.ArrayDeque;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.stream.Collectors;
 import lombok.NonNull;
-import pro.cyberyon.mojet.nodes.AbstractNode;
-import pro.cyberyon.mojet.nodes.NodeVisitor;
-import pro.cyberyon.mojet.nodes.OccurencesNode;
-import pro.cyberyon.mojet.nodes.RecordNode;
+import pro.cyberyon.mojet.nodes.Layout;
 
 /**
  * Skeleton class providing fields extraction.
@@ -34,9 +27,14 @@ import pro.cyberyon.mojet.nodes.RecordNode;
 abstract class AbstractMojetLine<T> {
 
 	/**
-	 * The pojo class type
+	 * The flattened pojo class type, null when a generated record is used
 	 */
-	protected final RecordNode root;
+	protected final Layout layout;
+
+	/**
+	 * The compiled record, null when interpreted
+	 */
+	protected final CompiledRecord<T> compiled;
 
 	/**
 	 * Constructor to build the list of field in a annoted pojo class
@@ -54,55 +52,38 @@ abstract class AbstractMojetLine<T> {
 	 * @param builder    the builder to use
 	 */
 	protected AbstractMojetLine(@NonNull Class<T> targetType, @NonNull NodesBuilder builder) {
-		root = builder.build(targetType);
+		this(targetType, builder, Engine.INTERPRETER);
 	}
 
 	/**
-	 * Abstract node visitor implemention, providing common behaviors
+	 * Constructor to build the list of field in a annoted pojo class
+	 *
+	 * @param targetType the pojo class type
+	 * @param builder    the builder to use
+	 * @param engine     the engine to use
 	 */
-	protected abstract static class AbstractNodeVisitor implements NodeVisitor {
-
-		private final Deque<String> path = new ArrayDeque<>();
-
-		/**
-		 * {@inheritDoc}
-		 */
-		@Override
-		public final void visit(final RecordNode node) {
-			for (AbstractNode<?> visitable : node.getNodes()) {
-				path.push(visitable.getAccessor());
-				visitable.accept(this);
-				path.pop();
-			}
-		}
-
-		/**
-		 * {@inheritDoc}
-		 */
-		@Override
-		public final void visit(final OccurencesNode node) {
-			final String old = path.pop();
-			for (int i = 0; i < node.getCount(); i++) {
-				path.push(node.getAccessor() + "[" + i + "]");
-				node.getItem().accept(this);
-				path.pop();
-			}
-			path.push(old);
+	protected AbstractMojetLine(@NonNull Class<T> targetType, @NonNull NodesBuilder builder, @NonNull Engine engine) {
+		switch (engine) {
+			case GENERATED:
+				compiled = CompiledRecords.find(targetType);
+				break;
+			case BYTECODE:
+				compiled = builder.compile(targetType);
+				break;
+			default:
+				compiled = null;
+				break;
 		}
+		layout = engine == Engine.GENERATED && compiled != null ? null : builder.layout(targetType);
+	}
 
-		/**
-		 * Get the path from root record
-		 *
-		 * @return the absolute path from root record
-		 */
-		protected final String getPath() {
-			return path.stream().filter(t -> !t.isEmpty()).collect(Collectors.collectingAndThen(
-					Collectors.toList(), lst -> {
-						Collections.reverse(lst);
-						return lst.stream().filter(t -> !t.isEmpty()).collect(Collectors.joining("."));
-					}
-			));
-		}
+	/**
+	 * Get the record length, the same for every record of the pojo type
+	 *
+	 * @return the number of characters of a record
+	 */
+	public int getLength() {
+		return layout != null ? layout.getLength() : compiled.getLength();
 	}
 
 }
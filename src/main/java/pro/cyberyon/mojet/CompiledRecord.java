@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import org.apache.commons.text.TextStringBuilder;
+
+/**
+ * A record type compiled to straight-line mapping and aggregation code, either
+ * generated at runtime or by the annotation processor. Generated sources are
+ * registered as services of this interface.
+ *
+ * @param <T> type of pojo
+ * @author Guillaume CHAUVET
+ */
+public interface CompiledRecord<T> {
+
+	/**
+	 * The compiled record type
+	 *
+	 * @return the pojo class
+	 */
+	Class<T> getType();
+
+	/**
+	 * The record length
+	 *
+	 * @return the number of characters of a record
+	 */
+	int getLength();
+
+	/**
+	 * Map a line to a new pojo instance
+	 *
+	 * @param line the line to map
+	 * @return the pojo instance
+	 */
+	T map(String line);
+
+	/**
+	 * Aggregate a pojo instance
+	 *
+	 * @param item   the pojo instance
+	 * @param output the output to append to
+	 */
+	void aggregate(T item, TextStringBuilder output);
+
+}
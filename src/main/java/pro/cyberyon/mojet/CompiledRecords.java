@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the records generated by the annotation processor.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class CompiledRecords {
+
+	private static final ClassValue<CompiledRecord<?>> GENERATED = new ClassValue<>() {
+		@Override
+		protected CompiledRecord<?> computeValue(final Class<?> type) {
+			for (CompiledRecord<?> compiled : ServiceLoader.load(CompiledRecord.class, type.getClassLoader())) {
+				if (compiled.getType() == type) {
+					return compiled;
+				}
+			}
+			return null;
+		}
+	};
+
+	private CompiledRecords() {
+	}
+
+	/**
+	 * Find the generated record of a pojo type
+	 *
+	 * @param <T>  type of pojo
+	 * @param type the pojo class
+	 * @return the generated record, or null if absent
+	 */
+	static <T> CompiledRecord<T> find(final Class<T> type) {
+		return (CompiledRecord<T>) GENERATED.get(type);
+	}
+
+}
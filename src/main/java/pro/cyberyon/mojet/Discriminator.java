@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Define the key of a record type, read from a fixed area of the records to
+ * resolve their type in constant time.
+ *
+ * @author Guillaume CHAUVET
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Discriminator {
+
+	/**
+	 * Offset of the key area in the record
+	 *
+	 * @return a natural number
+	 */
+	int offset() default 0;
+
+	/**
+	 * Length of the key area
+	 *
+	 * @return a strict positive number
+	 */
+	int length();
+
+	/**
+	 * Key of the record type, of the key area length
+	 *
+	 * @return the key
+	 */
+	String value();
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.util.Map;
+
+/**
+ * Open addressing table of record type keys, looked up straight from the key
+ * area of a record without extracting it.
+ *
+ * @param <V> type of value
+ *
+ * @author Guillaume CHAUVET
+ */
+final class DiscriminatorTable<V> {
+
+	private final int offset;
+	private final int length;
+	private final String[] keys;
+	private final Object[] values;
+	private final int mask;
+
+	/**
+	 * Construct a table
+	 *
+	 * @param offset  the key area offset
+	 * @param length  the key area length
+	 * @param entries the values by key, each key being of the area length
+	 */
+	DiscriminatorTable(final int offset, final int length, final Map<String, V> entries) {
+		this.offset = offset;
+		this.length = length;
+		final int capacity = Integer.highestOneBit(Math.max(1, entries.size()) * 2) * 2;
+		this.keys = new String[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+		for (Map.Entry<String, V> entry : entries.entrySet()) {
+			int index = hash(entry.getKey(), 0, length) & mask;
+			while (keys[index] != null) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = entry.getKey();
+			values[index] = entry.getValue();
+		}
+	}
+
+	/**
+	 * Get the value of the key of a record
+	 *
+	 * @param record the record characters
+	 * @return the value, or null if the key is unknown or the record too short
+	 */
+	V get(final CharSequence record) {
+		if (record.length() < offset + length) {
+			return null;
+		}
+		for (int index = hash(record, offset, offset + length) & mask; keys[index] != null; index = (index + 1) & mask) {
+			if (matches(keys[index], record)) {
+				return (V) values[index];
+			}
+		}
+		return null;
+	}
+
+	private boolean matches(final String key, final CharSequence record) {
+		for (int i = 0; i < length; i++) {
+			if (key.charAt(i) != record.charAt(offset + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int hash(final CharSequence source, final int start, final int end) {
+		int result = 0;
+		for (int i = start; i < end; i++) {
+			result = 31 * result + source.charAt(i);
+		}
+		return result ^ (result >>> 16);
+	}
+
+}
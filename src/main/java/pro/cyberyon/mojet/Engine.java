@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+/**
+ * Define the way records are mapped and aggregated.
+ *
+ * @author Guillaume CHAUVET
+ */
+public enum Engine {
+
+	/**
+	 * Use the record generated by the annotation processor when present,
+	 * without any reflection on the pojo class, the interpreter otherwise.
+	 * Generated records access fields through their getters and setters when
+	 * the fields are not visible from the pojo package.
+	 */
+	GENERATED,
+	/**
+	 * Loop over the segments of the record layout, flattened once with their
+	 * absolute offsets, for every line, the default
+	 */
+	INTERPRETER,
+	/**
+	 * Generate a dedicated hidden class per record type, falling back to the
+	 * interpreter if its methods would be too large to be JIT compiled or if
+	 * the class can't be defined
+	 */
+	BYTECODE
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import org.apache.commons.text.TextStringBuilder;
+import pro.cyberyon.mojet.Fragment.PadWay;
+import pro.cyberyon.mojet.types.Codec;
+
+/**
+ * Fragment reading and writing rules shared by every engine.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class Fragments {
+
+	private Fragments() {
+	}
+
+	/**
+	 * Read a fragment area of a line
+	 *
+	 * @param line      the line to read
+	 * @param start     the fragment offset in the line
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param codec     the fragment codec
+	 * @return the value read, or null
+	 */
+	static Object read(final CharSequence line, final int start, final int length, final char padder, final PadWay alignment, final Codec<?> codec) {
+		final int from = start(line, start, length, padder, alignment);
+		return codec.read(line, from, end(line, from, start + length, padder, alignment));
+	}
+
+	/**
+	 * Get the start index of the data of a fragment area, leading padding
+	 * excluded
+	 *
+	 * @param line      the line to read
+	 * @param start     the fragment offset in the line
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @return the data start index (inclusive)
+	 * @throws IndexOutOfBoundsException if the line is too short
+	 */
+	static int start(final CharSequence line, final int start, final int length, final char padder, final PadWay alignment) {
+		int result = Objects.checkFromIndexSize(start, length, line.length());
+		if (alignment == PadWay.RIGHT) {
+			final int end = start + length;
+			while (result < end && line.charAt(result) == padder) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the end index of the data of a fragment area, trailing padding
+	 * excluded
+	 *
+	 * @param line      the line to read
+	 * @param from      the data start index
+	 * @param end       the fragment end offset in the line
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @return the data end index (exclusive)
+	 */
+	static int end(final CharSequence line, final int from, final int end, final char padder, final PadWay alignment) {
+		int result = end;
+		if (alignment == PadWay.LEFT) {
+			while (result > from && line.charAt(result - 1) == padder) {
+				result--;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Write a fragment area
+	 *
+	 * @param output    the output to append to
+	 * @param value     the value to write
+	 * @param codec     the fragment codec
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	static void write(final TextStringBuilder output, final Object value, final Codec<?> codec, final int length, final char padder, final PadWay alignment, final boolean truncable) {
+		if (isDecimal(value, codec)) {
+			write(output, ((Number) value).longValue(), length, padder, alignment, truncable);
+		} else {
+			write(output, ((Codec<Object>) codec).write(value), length, padder, alignment, truncable);
+		}
+	}
+
+	/**
+	 * Write a fragment area holding the decimal digits of a number, rendered
+	 * without any string
+	 *
+	 * @param output    the output to append to
+	 * @param value     the number to write
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	static void write(final TextStringBuilder output, final long value, final int length, final char padder, final PadWay alignment, final boolean truncable) {
+		final int offset = output.length();
+		output.appendPadding(length, padder);
+		overwrite(output, offset, value, length, alignment, truncable);
+	}
+
+	/**
+	 * Write an encoded fragment area
+	 *
+	 * @param output    the output to append to
+	 * @param encoded   the value encoded by its handler
+	 * @param length    the fragment length
+	 * @param padder    the padding character
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	static void write(final TextStringBuilder output, final String encoded, final int length, final char padder, final PadWay alignment, final boolean truncable) {
+		final String data = fit(encoded, length, truncable);
+		switch (alignment) {
+			case NONE:
+				if (data.length() != length) {
+					throw new MojetRuntimeException("Expected length not matched");
+				}
+				output.append(data);
+				break;
+			case LEFT:
+				output.appendFixedWidthPadRight(data, length, padder);
+				break;
+			case RIGHT:
+				output.appendFixedWidthPadLeft(data, length, padder);
+				break;
+			default:
+				throw new MojetRuntimeException("Undefined case");
+		}
+	}
+
+	/**
+	 * Overwrite an encoded fragment area already filled with its padding
+	 * character, only the data characters being copied
+	 *
+	 * @param output    the output holding the area
+	 * @param offset    the area offset in the output
+	 * @param encoded   the value encoded by its handler
+	 * @param length    the fragment length
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	static void overwrite(final TextStringBuilder output, final int offset, final String encoded, final int length, final PadWay alignment, final boolean truncable) {
+		final String data = fit(encoded, length, truncable);
+		switch (alignment) {
+			case NONE:
+				if (data.length() != length) {
+					throw new MojetRuntimeException("Expected length not matched");
+				}
+				output.replace(offset, offset + length, data);
+				break;
+			case LEFT:
+				output.replace(offset, offset + data.length(), data);
+				break;
+			case RIGHT:
+				output.replace(offset + length - data.length(), offset + length, data);
+				break;
+			default:
+				throw new MojetRuntimeException("Undefined case");
+		}
+	}
+
+	/**
+	 * Overwrite a fragment area already filled with its padding character
+	 *
+	 * @param output    the output holding the area
+	 * @param offset    the area offset in the output
+	 * @param value     the value to write
+	 * @param codec     the fragment codec
+	 * @param length    the fragment length
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	static void overwrite(final TextStringBuilder output, final int offset, final Object value, final Codec<?> codec, final int length, final PadWay alignment, final boolean truncable) {
+		if (isDecimal(value, codec)) {
+			overwrite(output, offset, ((Number) value).longValue(), length, alignment, truncable);
+		} else {
+			overwrite(output, offset, ((Codec<Object>) codec).write(value), length, alignment, truncable);
+		}
+	}
+
+	/**
+	 * Overwrite a fragment area already filled with its padding character by
+	 * the decimal digits of a number, rendered from right to left without
+	 * any string
+	 *
+	 * @param output    the output holding the area
+	 * @param offset    the area offset in the output
+	 * @param value     the number to write
+	 * @param length    the fragment length
+	 * @param alignment the padding way
+	 * @param truncable <code>true</code> if the value can be truncated
+	 */
+	static void overwrite(final TextStringBuilder output, final int offset, final long value, final int length, final PadWay alignment, final boolean truncable) {
+		final int size = size(value);
+		if (size > length) {
+			overwrite(output, offset, Long.toString(value), length, alignment, truncable);
+			return;
+		}
+		if (alignment == PadWay.NONE && size != length) {
+			throw new MojetRuntimeException("Expected length not matched");
+		}
+		int index = alignment == PadWay.RIGHT ? offset + length : offset + size;
+		long rest = value < 0 ? value : -value;
+		do {
+			output.setCharAt(--index, (char) ('0' - rest % 10));
+			rest /= 10;
+		} while (rest != 0);
+		if (value < 0) {
+			output.setCharAt(--index, '-');
+		}
+	}
+
+	private static boolean isDecimal(final Object value, final Codec<?> codec) {
+		return codec instanceof Codec.Decimal && value != null && (!(value instanceof BigInteger) || ((BigInteger) value).bitLength() < Long.SIZE);
+	}
+
+	private static int size(final long value) {
+		int result = value < 0 ? 2 : 1;
+		for (long rest = value < 0 ? value : -value; rest <= -10; rest /= 10) {
+			result++;
+		}
+		return result;
+	}
+
+	private static String fit(final String encoded, final int length, final boolean truncable) {
+		if (encoded.length() > length) {
+			if (truncable) {
+				return encoded.substring(0, length);
+			}
+			throw new MojetRuntimeException("Data overflow");
+		}
+		return encoded;
+	}
+
+}
@@ -15,12 +15,17 @@
  */
 package pro.cyberyon.mojet;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.commons.text.TextStringBuilder;
 import org.springframework.batch.item.file.transform.LineAggregator;
-import org.springframework.beans.BeanWrapperImpl;
-import pro.cyberyon.mojet.nodes.ZapNode;
+import pro.cyberyon.mojet.io.ByteCharset;
 import pro.cyberyon.mojet.nodes.FragmentNode;
-import pro.cyberyon.mojet.types.TypeHandler;
+import pro.cyberyon.mojet.nodes.Layout;
+import pro.cyberyon.mojet.nodes.ZapNode;
+import pro.cyberyon.mojet.nodes.Segment;
 
 /**
  * This class allow to write type as a line of characters.
@@ -30,6 +35,17 @@ import pro.cyberyon.mojet.types.TypeHandler;
  */
 public class MojetLineAggregator<T> extends AbstractMojetLine<T> implements LineAggregator<T> {
 
+	/**
+	 * The record with its fillers and the padding of its fragments already
+	 * rendered, null when a compiled record is used
+	 */
+	private final char[] template;
+
+	/**
+	 * The builder reused by each thread to render records
+	 */
+	private final ThreadLocal<TextStringBuilder> builders = ThreadLocal.withInitial(TextStringBuilder::new);
+
 	/**
 	 * Construct a new pojo {@link LineAggregator} instance
 	 *
@@ -37,6 +53,7 @@ public class MojetLineAggregator<T> extends AbstractMojetLine<T> implements Line
 	 */
 	public MojetLineAggregator(final Class<T> type) {
 		super(type);
+		this.template = layout != null ? render(layout) : null;
 	}
 
 	/**
@@ -47,6 +64,19 @@ public class MojetLineAggregator<T> extends AbstractMojetLine<T> implements Line
 	 */
 	public MojetLineAggregator(final NodesBuilder builder, final Class<T> type) {
 		super(type, builder);
+		this.template = layout != null ? render(layout) : null;
+	}
+
+	/**
+	 * Construct a new pojo {@link LineAggregator} instance
+	 *
+	 * @param builder the node builder instance to use
+	 * @param type    the bean type to manage
+	 * @param engine  the aggregation engine to use
+	 */
+	public MojetLineAggregator(final NodesBuilder builder, final Class<T> type, final Engine engine) {
+		super(type, builder, engine);
+		this.template = layout != null ? render(layout) : null;
 	}
 
 	/**
@@ -54,51 +84,100 @@ public class MojetLineAggregator<T> extends AbstractMojetLine<T> implements Line
 	 */
 	@Override
 	public String aggregate(final T item) {
-		final TextStringBuilder output = new TextStringBuilder();
-		root.accept(new AbstractNodeVisitor() {
-
-			private final BeanWrapperImpl bean = new BeanWrapperImpl(item);
+		return build(item).toString();
+	}
 
-			{
-				bean.setAutoGrowNestedPaths(true);
+	/**
+	 * Append a record to a builder, without any intermediate string
+	 *
+	 * @param item   the record to write
+	 * @param output the builder to append to
+	 */
+	public void aggregateTo(final T item, final TextStringBuilder output) {
+		output.ensureCapacity(output.length() + getLength());
+		if (compiled != null) {
+			compiled.aggregate(item, output);
+			return;
+		}
+		final int start = output.length();
+		output.append(template);
+		final List<Segment> fragments = layout.getFragments();
+		for (int i = 0; i < fragments.size(); i++) {
+			final Segment segment = fragments.get(i);
+			final FragmentNode node = (FragmentNode) segment.getNode();
+			final int offset = start + segment.getStart();
+			if (segment.isDecimal()) {
+				Fragments.overwrite(output, offset, segment.getLong(item), segment.getLength(), node.getAlignement(), node.isTruncable());
+			} else if (segment.isPrimitive()) {
+				Fragments.overwrite(output, offset, segment.write(item), segment.getLength(), node.getAlignement(), node.isTruncable());
+			} else {
+				Fragments.overwrite(output, offset, segment.get(item), node.getCodec(), segment.getLength(), node.getAlignement(), node.isTruncable());
 			}
+		}
+	}
 
-			@Override
-			public void visit(final ZapNode node) {
-				output.appendPadding(node.getLength(), node.getPadding());
-			}
+	/**
+	 * Append a record to a character output, such as a {@link java.io.Writer}
+	 * or a {@link java.nio.CharBuffer}, the characters being copied from a
+	 * reused builder without any intermediate string
+	 *
+	 * @param item   the record to write
+	 * @param output the output to append to
+	 * @throws IOException if the output can't be written
+	 */
+	public void aggregateTo(final T item, final Appendable output) throws IOException {
+		build(item).appendTo(output);
+	}
 
-			@Override
-			public void visit(final FragmentNode node) {
-				final Object value = bean.getPropertyValue(getPath());
-				String data = ((TypeHandler<Object>) node.getHandler()).write(value, node.getFormat());
-				if (data.length() > node.getLenght()) {
-					if (node.isTruncable()) {
-						data = data.substring(0, node.getLenght());
-					} else {
-						throw new MojetRuntimeException("Data overflow");
-					}
-				}
-				switch (node.getAlignement()) {
-					case NONE:
-						if (data.length() != node.getLenght()) {
-							throw new MojetRuntimeException("Expected length not matched");
-						}
-						output.append(data);
-						break;
-					case LEFT:
-						output.appendFixedWidthPadRight(data, node.getLenght(), node.getPadder());
-						break;
-					case RIGHT:
-						output.appendFixedWidthPadLeft(data, node.getLenght(), node.getPadder());
-						break;
-					default:
-						throw new MojetRuntimeException("Undefined case");
-				}
-			}
+	/**
+	 * Write a record as single byte encoded data, without building any string
+	 *
+	 * @param item    the record to write
+	 * @param output  the buffer to put the bytes to, from its position
+	 * @param charset the single byte charset
+	 * @throws java.nio.BufferOverflowException if the buffer is too small
+	 */
+	public void aggregate(final T item, final ByteBuffer output, final ByteCharset charset) {
+		final TextStringBuilder builder = build(item);
+		for (int i = 0; i < builder.length(); i++) {
+			output.put(charset.encode(builder.charAt(i)));
+		}
+	}
+
+	/**
+	 * Write a record as single byte encoded data
+	 *
+	 * @param item    the record to write
+	 * @param charset the single byte charset
+	 * @return the record bytes
+	 */
+	public byte[] aggregate(final T item, final ByteCharset charset) {
+		final TextStringBuilder builder = build(item);
+		final byte[] result = new byte[builder.length()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = charset.encode(builder.charAt(i));
+		}
+		return result;
+	}
+
+	private static char[] render(final Layout layout) {
+		final char[] result = new char[layout.getLength()];
+		for (Segment segment : layout.getSegments()) {
+			final char padding = segment.isFiller() ? ((ZapNode) segment.getNode()).getPadding() : ((FragmentNode) segment.getNode()).getPadder();
+			Arrays.fill(result, segment.getStart(), segment.getEnd(), padding);
+		}
+		return result;
+	}
 
-		});
-		return output.toString();
+	/**
+	 * Render a record into the builder of the current thread, valid until the
+	 * next record is rendered by this thread
+	 */
+	private TextStringBuilder build(final T item) {
+		final TextStringBuilder output = builders.get();
+		output.clear();
+		aggregateTo(item, output);
+		return output;
 	}
 
 }
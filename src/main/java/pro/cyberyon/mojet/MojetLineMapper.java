@@ -15,13 +15,15 @@
  */
 package pro.cyberyon.mojet;
 
-import org.apache.commons.lang3.StringUtils;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import org.springframework.batch.item.file.LineMapper;
-
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
-import pro.cyberyon.mojet.nodes.ZapNode;
+import pro.cyberyon.mojet.io.ByteCharset;
+import pro.cyberyon.mojet.io.ByteSequence;
+import pro.cyberyon.mojet.io.RecordMapper;
 import pro.cyberyon.mojet.nodes.FragmentNode;
+import pro.cyberyon.mojet.nodes.Segment;
 
 /**
  * MojetLineMapper is an implementation of LineMapper that uses a POJO type to
@@ -31,7 +33,17 @@ import pro.cyberyon.mojet.nodes.FragmentNode;
  *
  * @author Guillaume CHAUVET
  */
-public class MojetLineMapper<T> extends AbstractMojetLine<T> implements LineMapper<T> {
+public class MojetLineMapper<T> extends AbstractMojetLine<T> implements LineMapper<T>, RecordMapper<T> {
+
+	/**
+	 * The fragments to decode, null when a compiled record is used
+	 */
+	private final List<Segment> fragments;
+
+	/**
+	 * The lazy view factory, null when mapping to pojos
+	 */
+	private final RecordView<T> view;
 
 	/**
 	 * Construct a new pojo {@link LineMapper} instance
@@ -40,6 +52,8 @@ public class MojetLineMapper<T> extends AbstractMojetLine<T> implements LineMapp
 	 */
 	public MojetLineMapper(final Class<T> targetType) {
 		super(targetType);
+		this.fragments = layout != null ? layout.getFragments() : null;
+		this.view = null;
 	}
 
 	/**
@@ -50,6 +64,57 @@ public class MojetLineMapper<T> extends AbstractMojetLine<T> implements LineMapp
 	 */
 	public MojetLineMapper(final NodesBuilder builder, final Class<T> targetType) {
 		super(targetType, builder);
+		this.fragments = layout != null ? layout.getFragments() : null;
+		this.view = null;
+	}
+
+	/**
+	 * Construct a new pojo {@link LineMapper} instance
+	 *
+	 * @param builder    the node builder instance to use
+	 * @param targetType the bean type to manage
+	 * @param engine     the mapping engine to use
+	 */
+	public MojetLineMapper(final NodesBuilder builder, final Class<T> targetType, final Engine engine) {
+		super(targetType, builder, engine);
+		this.fragments = layout != null ? layout.getFragments() : null;
+		this.view = null;
+	}
+
+	/**
+	 * Construct a new pojo {@link LineMapper} instance decoding only some
+	 * fields, the other fragments being skipped. Fields are selected by path
+	 * (such as <code>id</code>, <code>child.label</code>, <code>values</code>
+	 * or <code>childrens[1]</code>), a nested record or an array selecting all
+	 * its fragments.
+	 *
+	 * @param builder    the node builder instance to use
+	 * @param targetType the bean type to manage
+	 * @param fields     the paths of the fields to decode
+	 */
+	public MojetLineMapper(final NodesBuilder builder, final Class<T> targetType, final String... fields) {
+		super(targetType, builder, Engine.INTERPRETER);
+		this.fragments = layout.project(Arrays.asList(fields)).getFragments();
+		this.view = null;
+	}
+
+	/**
+	 * Construct a new {@link LineMapper} instance returning lazy views of
+	 * lines. The view interface getters are bound by property name to the
+	 * fields of a record (<code>getId()</code>, <code>isActive()</code> or
+	 * <code>id()</code> to <code>id</code>), nested records and arrays of
+	 * records being viewed through interfaces too. A fragment is decoded on
+	 * the first call of its getter only, and the {@link Object#toString()}
+	 * method of a view returns the viewed line.
+	 *
+	 * @param builder    the node builder instance to use
+	 * @param recordType the record type defining the fragments
+	 * @param viewType   the view interface
+	 */
+	public MojetLineMapper(final NodesBuilder builder, final Class<?> recordType, final Class<T> viewType) {
+		super((Class<T>) recordType, builder, Engine.INTERPRETER);
+		this.fragments = null;
+		this.view = new RecordView<>(viewType, layout.getFragments(), "");
 	}
 
 	/**
@@ -57,48 +122,74 @@ public class MojetLineMapper<T> extends AbstractMojetLine<T> implements LineMapp
 	 */
 	@Override
 	public T mapLine(final String line, int lineNumber) throws Exception {
-		final BeanWrapper wrapper = new BeanWrapperImpl(root.getType());
-		wrapper.setAutoGrowNestedPaths(true);
-		root.accept(new AbstractNodeVisitor() {
+		return map(line);
+	}
 
-			private int index = 0;
+	/**
+	 * Map the single byte encoded data of a record
+	 *
+	 * @param record  the record bytes
+	 * @param charset the single byte charset
+	 * @return the mapped record
+	 */
+	public T map(final byte[] record, final ByteCharset charset) {
+		return map(new ByteSequence(record, charset));
+	}
 
-			@Override
-			public void visit(final ZapNode node) {
-				index += node.getLength();
-			}
+	/**
+	 * Map the single byte encoded data of a record
+	 *
+	 * @param record  the record bytes, from position to limit
+	 * @param charset the single byte charset
+	 * @return the mapped record
+	 */
+	public T map(final ByteBuffer record, final ByteCharset charset) {
+		return map(new ByteSequence(record, charset));
+	}
 
-			@Override
-			public void visit(final FragmentNode node) {
-				String data = line.substring(index, index + node.getLenght());
-				switch (node.getAlignement()) {
-					case NONE:
-						// Do nothing
-						break;
-					case LEFT:
-						data = StringUtils.stripEnd(data, Character.toString(node.getPadder()));
-						break;
-					case RIGHT:
-						data = StringUtils.stripStart(data, Character.toString(node.getPadder()));
-						break;
-					default:
-						throw new MojetRuntimeException("Undefined case");
-				}
-				try {
-					final Object value = node.getHandler().read(data, node.getFormat());
-					if (value != null) {
-						wrapper.setPropertyValue(getPath(), value);
-					}
-				} catch (Exception ex) {
-					if (!node.isOptional()) {
-						throw new MojetRuntimeException("Unable to handle data", ex);
-					}
-				} finally {
-					index += node.getLenght();
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getMaxLength() {
+		return getLength();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getLength(final CharSequence data) {
+		return getLength();
+	}
+
+	/**
+	 * Map the characters of a record, read in place by the fragment handlers
+	 *
+	 * @param line the record characters
+	 * @return the mapped record
+	 */
+	@Override
+	public T map(final CharSequence line) {
+		if (view != null) {
+			return view.create(line.toString());
+		} else if (compiled != null) {
+			return compiled.map(line.toString());
+		}
+		final Object result = layout.getRoot().newInstance();
+		for (int i = 0; i < fragments.size(); i++) {
+			final Segment segment = fragments.get(i);
+			final FragmentNode node = (FragmentNode) segment.getNode();
+			try {
+				final int from = Fragments.start(line, segment.getStart(), segment.getLength(), node.getPadder(), node.getAlignement());
+				segment.read(result, line, from, Fragments.end(line, from, segment.getEnd(), node.getPadder(), node.getAlignement()));
+			} catch (Exception ex) {
+				if (!node.isOptional()) {
+					throw new MojetRuntimeException("Unable to handle data", ex);
 				}
 			}
-		});
-		return (T) wrapper.getWrappedInstance();
+		}
+		return (T) result;
 	}
 
 }
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import lombok.Getter;
 import org.springframework.batch.item.file.transform.LineAggregator;
 
 /**
@@ -30,8 +31,29 @@ import org.springframework.batch.item.file.transform.LineAggregator;
  */
 public class MojetPolyLineAggregator<T extends RecordVisitable> implements LineAggregator<T> {
 
+	/**
+	 * The aggregator of each registered record class
+	 */
+	@Getter
 	private final Map<Class<? extends T>, MojetLineAggregator<? extends T>> aggregators;
 
+	/**
+	 * The aggregator of each concrete class, the one of its nearest registered
+	 * ancestor for subclasses and proxies of the record classes
+	 */
+	private final ClassValue<MojetLineAggregator<? extends T>> dispatch = new ClassValue<>() {
+		@Override
+		protected MojetLineAggregator<? extends T> computeValue(final Class<?> type) {
+			for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+				final MojetLineAggregator<? extends T> result = aggregators.get(current);
+				if (result != null) {
+					return result;
+				}
+			}
+			return null;
+		}
+	};
+
 	/**
 	 * Construct a new recordable pojo aggregator instance
 	 *
@@ -46,12 +68,36 @@ public class MojetPolyLineAggregator<T extends RecordVisitable> implements LineA
 		aggregators = Collections.unmodifiableMap(instances);
 	}
 
+	/**
+	 * Aggregate a record, raw records passed through by a
+	 * {@link MojetPolyLineMapper} being written as read
+	 *
+	 * @param item the record
+	 * @return the record line
+	 * @throws MojetRuntimeException if the record class is unknown
+	 */
 	@Override
 	public String aggregate(final T item) {
-		if (!aggregators.containsKey(item.getClass())) {
+		if (item instanceof RawRecord) {
+			return ((RawRecord) item).getLine();
+		}
+		return aggregator(item).aggregate(item);
+	}
+
+	/**
+	 * Get the aggregator of a record, subclasses and proxies of the record
+	 * classes being written as their nearest registered ancestor
+	 *
+	 * @param item the record
+	 * @return the aggregator of the record class
+	 * @throws MojetRuntimeException if the record class is unknown
+	 */
+	public MojetLineAggregator<T> aggregator(final T item) {
+		final MojetLineAggregator<? extends T> result = dispatch.get(item.getClass());
+		if (result == null) {
 			throw new MojetRuntimeException("Unknow record class : " + item.getClass());
 		}
-		return ((MojetLineAggregator<T>) aggregators.get(item.getClass())).aggregate(item);
+		return (MojetLineAggregator<T>) result;
 	}
 
 }
@@ -15,22 +15,61 @@
  */
 package pro.cyberyon.mojet;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.NonNull;
 import org.springframework.batch.item.file.LineMapper;
-import org.springframework.batch.support.PatternMatcher;
+import pro.cyberyon.mojet.io.RecordMapper;
 
 /**
- * This mapper allow handling of multiple record type.
+ * This mapper allow handling of multiple record type. The type of a record is
+ * resolved from its {@link Discriminator} key in constant time, the
+ * {@link Matcher} patterns being matched by a single automaton when no key is
+ * found. When several patterns match, the one with the most literal
+ * characters wins, patterns with as many literal characters matching the
+ * same lines being rejected as ambiguous. Records of types not wanted by a
+ * step are skipped or passed through as {@link RawRecord} from their type
+ * alone, without being mapped. Skipped records are mapped to null by
+ * {@link #map(CharSequence)} and read past by
+ * {@link pro.cyberyon.mojet.io.MappedRecordReader}. From
+ * {@link #mapLine(String, int)}, they raise an {@link UnwantedRecordException},
+ * skipped by a fault tolerant step with an {@link UnwantedRecordSkipPolicy};
+ * steps without fault tolerance pass the records through instead and filter
+ * the {@link RawRecord} out in their item processor.
  *
  * @param <T> visitable pojo type
- * @see PatternMatcher
  * @author Guillaume CHAUVET
  */
-public class MojetPolyLineMapper<T extends RecordVisitable> implements LineMapper<T> {
+public class MojetPolyLineMapper<T extends RecordVisitable> implements LineMapper<T>, RecordMapper<T> {
 
-	private final PatternMatcher<MojetLineMapper<? extends T>> matchers;
+	/**
+	 * The automaton of the matcher patterns
+	 */
+	private final PatternAutomaton<MojetLineMapper<? extends T>> matchers;
+
+	private final int maxLength;
+
+	/**
+	 * The discriminator tables, one per key area
+	 */
+	private final List<DiscriminatorTable<MojetLineMapper<? extends T>>> tables;
+
+	/**
+	 * The mappers of the unwanted types, never used to map a record
+	 */
+	private final Set<MojetLineMapper<? extends T>> unwanted = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * <code>true</code> to pass through the unwanted records, to skip them
+	 * otherwise
+	 */
+	private final boolean passThrough;
 
 	/**
 	 * Construct a new mapper whos can handle multiple visitable records
@@ -38,20 +77,166 @@ public class MojetPolyLineMapper<T extends RecordVisitable> implements LineMappe
 	 * @param pojos set of visitable classes in the same scope
 	 */
 	public MojetPolyLineMapper(final Set<Class<? extends T>> pojos) {
+		this(pojos, pojos, false);
+	}
+
+	/**
+	 * Construct a new mapper whos only maps some of the visitable records, the
+	 * records of other classes being skipped
+	 *
+	 * @param pojos  set of visitable classes in the same scope
+	 * @param wanted set of the classes to map, among the pojos
+	 * @throws MojetRuntimeException if a wanted class is not a pojo
+	 */
+	public MojetPolyLineMapper(final Set<Class<? extends T>> pojos, final Set<Class<? extends T>> wanted) {
+		this(pojos, wanted, false);
+	}
+
+	/**
+	 * Construct a new mapper whos only maps some of the visitable records, the
+	 * records of other classes being passed through as {@link RawRecord}
+	 *
+	 * @param pojos  set of visitable classes in the same scope
+	 * @param wanted set of the classes to map, among the pojos
+	 * @param type   the visitable pojo type, a supertype of {@link RawRecord}
+	 * @throws MojetRuntimeException if a wanted class is not a pojo, or if raw
+	 *                               records are not of the pojo type
+	 */
+	public MojetPolyLineMapper(final Set<Class<? extends T>> pojos, final Set<Class<? extends T>> wanted, @NonNull final Class<T> type) {
+		this(pojos, wanted, true);
+		if (!type.isAssignableFrom(RawRecord.class)) {
+			throw new MojetRuntimeException("Raw records are not instances of " + type.getName());
+		}
+	}
+
+	private MojetPolyLineMapper(final Set<Class<? extends T>> pojos, final Set<Class<? extends T>> wanted, final boolean passThrough) {
+		if (!pojos.containsAll(wanted)) {
+			throw new MojetRuntimeException("Wanted classes not in the pojos : " + wanted);
+		}
+		this.passThrough = passThrough;
 		final Map<String, MojetLineMapper<? extends T>> mappers = new HashMap<>();
+		final Map<List<Integer>, Map<String, MojetLineMapper<? extends T>>> keys = new LinkedHashMap<>();
 		final NodesBuilder builder = new NodesBuilder();
+		int max = 0;
 		for (Class<? extends T> pojo : pojos) {
-			mappers.put(pojo.getAnnotation(Matcher.class).value(), new MojetLineMapper<>(builder, pojo));
+			final MojetLineMapper<? extends T> mapper = new MojetLineMapper<>(builder, pojo);
+			if (!wanted.contains(pojo)) {
+				unwanted.add(mapper);
+			}
+			final Discriminator discriminator = pojo.getAnnotation(Discriminator.class);
+			final Matcher matcher = pojo.getAnnotation(Matcher.class);
+			if (discriminator == null && matcher == null) {
+				throw new MojetRuntimeException("No discriminator nor matcher on " + pojo.getName());
+			}
+			if (discriminator != null) {
+				if (discriminator.value().length() != discriminator.length() || discriminator.offset() < 0 || discriminator.offset() + discriminator.length() > mapper.getLength()) {
+					throw new MojetRuntimeException("Invalid discriminator of " + pojo.getName());
+				}
+				final Map<String, MojetLineMapper<? extends T>> table = keys.computeIfAbsent(List.of(discriminator.offset(), discriminator.length()), k -> new HashMap<>());
+				if (table.put(discriminator.value(), mapper) != null) {
+					throw new MojetRuntimeException("Duplicate discriminator " + discriminator.value() + " of " + pojo.getName());
+				}
+			}
+			if (matcher != null) {
+				mappers.put(matcher.value(), mapper);
+			}
+			max = Math.max(max, mapper.getLength());
 		}
-		matchers = new PatternMatcher<>(mappers);
+		tables = new ArrayList<>();
+		for (Map.Entry<List<Integer>, Map<String, MojetLineMapper<? extends T>>> entry : keys.entrySet()) {
+			tables.add(new DiscriminatorTable<>(entry.getKey().get(0), entry.getKey().get(1), entry.getValue()));
+		}
+		matchers = new PatternAutomaton<>(mappers, MojetLineMapper::getLength);
+		maxLength = max;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Map a line, the records of unwanted types being passed through or
+	 * rejected without being mapped
+	 *
+	 * @param line       the line to map
+	 * @param lineNumber the line number
+	 * @return the mapped record, or the raw record if passed through
+	 * @throws UnwantedRecordException if the record is skipped
+	 * @throws Exception               if the record can't be mapped
 	 */
 	@Override
 	public T mapLine(String line, int lineNumber) throws Exception {
-		return matchers.match(line).mapLine(line, lineNumber);
+		MojetLineMapper<? extends T> mapper = discriminate(line);
+		if (mapper == null) {
+			mapper = matchers.match(line);
+		}
+		if (mapper == null) {
+			throw new IllegalStateException("Could not find a matching pattern for key=[" + line + "]");
+		}
+		if (unwanted.contains(mapper)) {
+			if (!passThrough) {
+				throw new UnwantedRecordException(line, lineNumber);
+			}
+			return (T) new RawRecord(line);
+		}
+		return mapper.mapLine(line, lineNumber);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getMaxLength() {
+		return maxLength;
+	}
+
+	/**
+	 * Get the length of the record starting a character sequence, the record
+	 * type being resolved from its discriminator key, or else by matching the
+	 * pattern of each record type against the characters of its own length
+	 *
+	 * @param data the next characters, at least the maximum length of the
+	 *             records or up to the end of data
+	 * @return the number of characters of the record
+	 * @throws MojetRuntimeException if no record type matches
+	 */
+	@Override
+	public int getLength(final CharSequence data) {
+		return resolve(data).getLength();
+	}
+
+	/**
+	 * Map the characters of a record, the record type being resolved as for
+	 * {@link #getLength(CharSequence)}
+	 *
+	 * @param record the record characters
+	 * @return the mapped record, or null if skipped
+	 */
+	@Override
+	public T map(final CharSequence record) {
+		final MojetLineMapper<? extends T> mapper = resolve(record);
+		if (unwanted.contains(mapper)) {
+			return passThrough ? (T) new RawRecord(record.toString()) : null;
+		}
+		return mapper.map(record);
+	}
+
+	private MojetLineMapper<? extends T> discriminate(final CharSequence data) {
+		for (int i = 0; i < tables.size(); i++) {
+			final MojetLineMapper<? extends T> result = tables.get(i).get(data);
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	private MojetLineMapper<? extends T> resolve(final CharSequence data) {
+		final MojetLineMapper<? extends T> result = discriminate(data);
+		if (result != null) {
+			return result;
+		}
+		final MojetLineMapper<? extends T> mapper = matchers.matchPrefix(data);
+		if (mapper == null) {
+			throw new MojetRuntimeException("No record type matching " + data);
+		}
+		return mapper;
 	}
 
 }
@@ -34,6 +34,16 @@ public class NodesBuilder {
 	 */
 	private final Map<Class<?>, RecordNode> cache = new HashMap<>();
 
+	/**
+	 * Cache of flattened record types.
+	 */
+	private final Map<Class<?>, Layout> layouts = new HashMap<>();
+
+	/**
+	 * Cache of compiled record types, null values for uncompilable types.
+	 */
+	private final Map<Class<?>, CompiledRecord<?>> compiled = new HashMap<>();
+
 	/**
 	 * Construct an AST from a class definition
 	 *
@@ -41,15 +51,11 @@ public class NodesBuilder {
 	 * @return a Recod not as root element
 	 */
 	public RecordNode build(Class<?> type) {
-		return build("", type);
-	}
-
-	private RecordNode build(String accessor, Class<?> type) {
 		if (!cache.containsKey(type)) {
 			if (!type.isAnnotationPresent(Record.class)) {
 				throw new MojetRuntimeException("Record not annoted");
 			} else {
-				final RecordNode result = new RecordNode(accessor, type);
+				final RecordNode result = new RecordNode(type);
 				for (Field field : type.getDeclaredFields()) {
 					build(field, result);
 				}
@@ -60,21 +66,48 @@ public class NodesBuilder {
 		return cache.get(type);
 	}
 
+	/**
+	 * Flatten a class definition to absolute segments
+	 *
+	 * @param type the class definition
+	 * @return the record layout
+	 */
+	public Layout layout(Class<?> type) {
+		if (!layouts.containsKey(type)) {
+			layouts.put(type, new Layout(build(type)));
+		}
+		return layouts.get(type);
+	}
+
+	/**
+	 * Compile a record type to a dedicated hidden class
+	 *
+	 * @param <T>  the record type
+	 * @param type the class definition
+	 * @return the compiled record, or null if it can't be compiled
+	 */
+	<T> CompiledRecord<T> compile(Class<T> type) {
+		if (!compiled.containsKey(type)) {
+			compiled.put(type, RecordCompiler.compile(build(type)));
+		}
+		return (CompiledRecord<T>) compiled.get(type);
+	}
+
 	private void build(final Field field, final RecordNode node) {
 		addFillers(field.getDeclaredAnnotationsByType(Zap.class), node);
-		final String accessor = field.getName();
 		final boolean isArray = field.getType().isArray();
 		AbstractNode<?> item = null;
 
 		if (field.isAnnotationPresent(Record.class)) {
-			item = build(accessor, !isArray ? field.getType() : field.getType().componentType());
+			final RecordNode definition = build(!isArray ? field.getType() : field.getType().componentType());
+			item = new RecordNode(new FieldAccessor(field), definition);
 		} else if (field.isAnnotationPresent(Fragment.class)) {
-			item = processFragment(accessor, field);
+			item = processFragment(field);
 		}
 		if (item != null) {
 			if (isArray) {
 				if (field.isAnnotationPresent(Occurences.class)) {
-					item = new OccurencesNode(accessor, field.getAnnotation(Occurences.class), item);
+					item = new OccurencesNode(item.getField(), field.getAnnotation(Occurences.class), item);
 				} else {
 					throw new MojetRuntimeException("Occurences annotation required");
 				}
@@ -83,7 +116,7 @@ public class NodesBuilder {
 		}
 	}
 
-	private AbstractNode<?> processFragment(final String accessor, final Field field) {
+	private AbstractNode<?> processFragment(final Field field) {
 		final TypeHandler<?> handler;
 		if (field.isAnnotationPresent(Transform.class)) {
 			final Transform converter = field.getAnnotation(Transform.class);
@@ -98,7 +131,7 @@ public class NodesBuilder {
 			handler = TypeHandlerFactory.getInstance().get(field.getType());
 		}
 		if (handler.accept(field.getType())) {
-			return new FragmentNode(accessor, field.getAnnotation(Fragment.class), handler);
+			return new FragmentNode(new FieldAccessor(field), field.getAnnotation(Fragment.class), handler);
 		} else {
 			throw new MojetRuntimeException("Handler can't manage this class type");
 		}
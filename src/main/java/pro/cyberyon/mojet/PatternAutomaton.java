@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Deterministic automaton of a set of wildcard patterns, <code>*</code>
+ * matching any sequence and <code>?</code> any character, built once so a
+ * record is scanned at most once whatever the number of patterns.
+ * <p>
+ * When several patterns match, the one with the most literal characters
+ * wins. Patterns with as many literal characters that can match the same
+ * line are ambiguous, and rejected when the automaton is built.
+ *
+ * @param <V> type of value
+ *
+ * @author Guillaume CHAUVET
+ */
+final class PatternAutomaton<V> {
+
+	private static final int MAX_STATES = 1 << 14;
+
+	/**
+	 * The patterns, by decreasing precedence
+	 */
+	private final String[] patterns;
+	private final Object[] values;
+	private final int[] lengths;
+
+	/**
+	 * The first global position of each pattern, the last one being the
+	 * total number of positions
+	 */
+	private final int[] offsets;
+
+	/**
+	 * The character classes of the literal characters, other characters
+	 * being of class 0
+	 */
+	private final int[] classes;
+	private final int[][] transitions;
+
+	/**
+	 * The matching patterns of each state, by decreasing precedence
+	 */
+	private final int[][] accepts;
+
+	/**
+	 * Flag of the states whose outcome can't change anymore
+	 */
+	private final boolean[] stable;
+
+	/**
+	 * Build the automaton of patterns
+	 *
+	 * @param entries the values by pattern
+	 * @param length  the record length of a value, to match records without
+	 *                separator
+	 * @throws MojetRuntimeException if patterns are ambiguous or too complex
+	 */
+	PatternAutomaton(final Map<String, V> entries, final ToIntFunction<V> length) {
+		final List<String> sorted = new ArrayList<>(entries.keySet());
+		sorted.sort(Comparator.comparingInt((String pattern) -> -literals(pattern)).thenComparing(Comparator.reverseOrder()));
+		patterns = sorted.toArray(new String[0]);
+		values = new Object[patterns.length];
+		lengths = new int[patterns.length];
+		offsets = new int[patterns.length + 1];
+		char max = 0;
+		for (int i = 0; i < patterns.length; i++) {
+			values[i] = entries.get(patterns[i]);
+			lengths[i] = length.applyAsInt(entries.get(patterns[i]));
+			offsets[i + 1] = offsets[i] + patterns[i].length() + 1;
+			for (char c : patterns[i].toCharArray()) {
+				max = isWildcard(c) ? max : (char) Math.max(max, c);
+			}
+		}
+		classes = new int[max + 1];
+		final List<Character> literals = new ArrayList<>();
+		literals.add('\0');
+		for (String pattern : patterns) {
+			for (char c : pattern.toCharArray()) {
+				if (!isWildcard(c) && classes[c] == 0) {
+					classes[c] = literals.size();
+					literals.add(c);
+				}
+			}
+		}
+		final List<BitSet> states = new ArrayList<>();
+		final Map<BitSet, Integer> indexes = new HashMap<>();
+		final List<int[]> table = new ArrayList<>();
+		final BitSet initial = new BitSet();
+		for (int i = 0; i < patterns.length; i++) {
+			add(initial, i, 0);
+		}
+		states.add(initial);
+		indexes.put(initial, 0);
+		for (int state = 0; state < states.size(); state++) {
+			final int[] row = new int[literals.size()];
+			for (int c = 0; c < row.length; c++) {
+				final BitSet next = step(states.get(state), c == 0 ? -1 : literals.get(c));
+				Integer index = indexes.get(next);
+				if (index == null) {
+					if (states.size() == MAX_STATES) {
+						throw new MojetRuntimeException("Too complex matcher patterns");
+					}
+					index = states.size();
+					states.add(next);
+					indexes.put(next, index);
+				}
+				row[c] = index;
+			}
+			table.add(row);
+		}
+		transitions = table.toArray(new int[0][]);
+		accepts = new int[states.size()][];
+		stable = new boolean[states.size()];
+		for (int state = 0; state < states.size(); state++) {
+			accepts[state] = accepting(states.get(state));
+			stable[state] = isStable(states.get(state));
+		}
+	}
+
+	/**
+	 * Match a whole line
+	 *
+	 * @param line the line
+	 * @return the value of the matching pattern of highest precedence, or
+	 *         null
+	 */
+	V match(final CharSequence line) {
+		int state = 0;
+		for (int i = 0; i < line.length() && !stable[state]; i++) {
+			state = transitions[state][classOf(line.charAt(i))];
+		}
+		return accepts[state].length > 0 ? (V) values[accepts[state][0]] : null;
+	}
+
+	/**
+	 * Match the start of some data, each pattern being matched against the
+	 * characters of the record length of its value
+	 *
+	 * @param data the data, starting with a record
+	 * @return the value of the matching pattern of highest precedence, or
+	 *         null
+	 */
+	V matchPrefix(final CharSequence data) {
+		int best = Integer.MAX_VALUE;
+		int state = 0;
+		for (int i = 0; best > 0; i++) {
+			for (int pattern : accepts[state]) {
+				if (pattern < best && (stable[state] ? lengths[pattern] >= i && lengths[pattern] <= data.length() : lengths[pattern] == i)) {
+					best = pattern;
+				}
+			}
+			if (stable[state] || i == data.length()) {
+				break;
+			}
+			state = transitions[state][classOf(data.charAt(i))];
+		}
+		return best < values.length ? (V) values[best] : null;
+	}
+
+	private int classOf(final char c) {
+		return c < classes.length ? classes[c] : 0;
+	}
+
+	private void add(final BitSet state, final int pattern, final int position) {
+		final String text = patterns[pattern];
+		int j = position;
+		state.set(offsets[pattern] + j);
+		while (j < text.length() && text.charAt(j) == '*') {
+			state.set(offsets[pattern] + ++j);
+		}
+	}
+
+	private BitSet step(final BitSet state, final int c) {
+		final BitSet result = new BitSet();
+		for (int pattern = 0; pattern < patterns.length; pattern++) {
+			final String text = patterns[pattern];
+			for (int j = state.nextSetBit(offsets[pattern]); j >= 0 && j < offsets[pattern + 1] - 1; j = state.nextSetBit(j + 1)) {
+				final char p = text.charAt(j - offsets[pattern]);
+				if (p == '*') {
+					add(result, pattern, j - offsets[pattern]);
+				} else if (p == '?' || p == c) {
+					add(result, pattern, j - offsets[pattern] + 1);
+				}
+			}
+		}
+		return result;
+	}
+
+	private int[] accepting(final BitSet state) {
+		final List<Integer> result = new ArrayList<>();
+		for (int pattern = 0; pattern < patterns.length; pattern++) {
+			if (state.get(offsets[pattern + 1] - 1)) {
+				if (!result.isEmpty() && literals(patterns[result.get(0)]) == literals(patterns[pattern])) {
+					throw new MojetRuntimeException("Ambiguous matcher patterns " + patterns[result.get(0)] + " and " + patterns[pattern]);
+				}
+				result.add(pattern);
+			}
+		}
+		return result.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Check if a state only holds trailing stars, so any character leads to
+	 * the same state
+	 */
+	private boolean isStable(final BitSet state) {
+		for (int pattern = 0; pattern < patterns.length; pattern++) {
+			final String text = patterns[pattern];
+			for (int j = state.nextSetBit(offsets[pattern]); j >= 0 && j < offsets[pattern + 1]; j = state.nextSetBit(j + 1)) {
+				final int position = j - offsets[pattern];
+				final boolean trailing = position < text.length() ? text.chars().skip(position).allMatch(c -> c == '*') : !text.isEmpty() && text.charAt(text.length() - 1) == '*';
+				if (!trailing) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWildcard(final char c) {
+		return c == '*' || c == '?';
+	}
+
+	private static int literals(final String pattern) {
+		int result = 0;
+		for (int i = 0; i < pattern.length(); i++) {
+			result += isWildcard(pattern.charAt(i)) ? 0 : 1;
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Unmapped record of a type not wanted by a {@link MojetPolyLineMapper},
+ * passed through as its raw characters.
+ *
+ * @author Guillaume CHAUVET
+ */
+@ToString
+@EqualsAndHashCode
+public final class RawRecord implements RecordVisitable<RecordVisitor> {
+
+	/**
+	 * The record characters
+	 */
+	@Getter
+	private final String line;
+
+	/**
+	 * Construct a raw record
+	 *
+	 * @param line the record characters
+	 */
+	public RawRecord(@NonNull final String line) {
+		this.line = line;
+	}
+
+	/**
+	 * Raw records are not visited
+	 *
+	 * @param visitor the instance of the visitor
+	 */
+	@Override
+	public void accept(final RecordVisitor visitor) {
+	}
+
+}
@@ -0,0 +1,628 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.text.TextStringBuilder;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import pro.cyberyon.mojet.Fragment.PadWay;
+import pro.cyberyon.mojet.nodes.AbstractNode;
+import pro.cyberyon.mojet.nodes.FragmentNode;
+import pro.cyberyon.mojet.nodes.Layout;
+import pro.cyberyon.mojet.nodes.NodeVisitor;
+import pro.cyberyon.mojet.nodes.OccurencesNode;
+import pro.cyberyon.mojet.nodes.RecordNode;
+import pro.cyberyon.mojet.nodes.ZapNode;
+import pro.cyberyon.mojet.types.Codec;
+
+/**
+ * Generate a hidden class per record type, with straight-line mapping and
+ * aggregation methods. Offsets are inlined, occurences are looped over, and
+ * codecs and field accessors are static final constants of the generated
+ * class, each one invoked from its own call site so the JIT can inline it.
+ * Primitive fields are decoded and encoded by their specialized codec and
+ * accessed by primitive typed method handles, without boxing.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class RecordCompiler implements Opcodes {
+
+	private static final String SUPPORT = Type.getInternalName(RecordCompiler.class);
+	private static final String OBJECT = Type.getInternalName(Object.class);
+	private static final String OUTPUT = Type.getInternalName(TextStringBuilder.class);
+	private static final String RECORD = Type.getInternalName(RecordNode.class);
+	private static final String OCCURENCES = Type.getInternalName(OccurencesNode.class);
+	private static final String FRAGMENTS = Type.getInternalName(Fragments.class);
+	private static final String HANDLE = Type.getInternalName(MethodHandle.class);
+	private static final String PADWAY = Type.getDescriptor(PadWay.class);
+	private static final String BOUND = Type.getMethodDescriptor(Type.INT_TYPE, Type.getType(CharSequence.class), Type.INT_TYPE, Type.INT_TYPE, Type.CHAR_TYPE, Type.getType(PadWay.class));
+	private static final String DECODE = Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(CharSequence.class), Type.INT_TYPE, Type.INT_TYPE);
+	private static final String FAILURE = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Throwable.class), Type.BOOLEAN_TYPE);
+	private static final String WRITE_VALUE = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(TextStringBuilder.class), Type.getType(Object.class), Type.getType(Codec.class), Type.INT_TYPE, Type.CHAR_TYPE, Type.getType(PadWay.class), Type.BOOLEAN_TYPE);
+	private static final String WRITE_LONG = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(TextStringBuilder.class), Type.LONG_TYPE, Type.INT_TYPE, Type.CHAR_TYPE, Type.getType(PadWay.class), Type.BOOLEAN_TYPE);
+	private static final String WRITE_STRING = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(TextStringBuilder.class), Type.getType(String.class), Type.INT_TYPE, Type.CHAR_TYPE, Type.getType(PadWay.class), Type.BOOLEAN_TYPE);
+
+	/**
+	 * The largest bytecode size of a generated method, HotSpot never compiling
+	 * methods larger than 8000 bytes
+	 */
+	static final int METHOD_BUDGET = 8000;
+
+	/**
+	 * The estimated bytecode size of the mapping of a fragment, the largest of
+	 * the generated methods
+	 */
+	private static final int FRAGMENT_SIZE = 80;
+
+	/**
+	 * The specialized codec of each primitive type
+	 */
+	private static final Map<Class<?>, Class<?>> CODECS = Map.of(int.class, Codec.OfInt.class, long.class, Codec.OfLong.class, short.class, Codec.OfShort.class, byte.class, Codec.OfByte.class, char.class, Codec.OfChar.class, double.class, Codec.OfDouble.class, boolean.class, Codec.OfBoolean.class);
+
+	private final RecordNode root;
+	private final String name;
+	private final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+		@Override
+		protected String getCommonSuperClass(final String type1, final String type2) {
+			return OBJECT;
+		}
+	};
+	private final List<Object> constants = new ArrayList<>();
+	private final List<Class<?>> types = new ArrayList<>();
+
+	private RecordCompiler(final RecordNode root) {
+		this.root = root;
+		this.name = SUPPORT.substring(0, SUPPORT.lastIndexOf('/') + 1) + "CompiledRecord$" + root.getType().getSimpleName();
+	}
+
+	/**
+	 * Compile a record type
+	 *
+	 * @param <T>  type of pojo
+	 * @param root the root node of the record
+	 * @return the compiled record, or null if its methods would be too large to
+	 *         be JIT compiled or if the hidden class can't be defined
+	 */
+	static <T> CompiledRecord<T> compile(final RecordNode root) {
+		final Estimator estimator = new Estimator();
+		estimator.visit(root);
+		if (estimator.size > METHOD_BUDGET) {
+			return null;
+		}
+		try {
+			return new RecordCompiler(root).define();
+		} catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+			return null;
+		}
+	}
+
+	private <T> CompiledRecord<T> define() throws ReflectiveOperationException {
+		writer.visit(V17, ACC_FINAL | ACC_SUPER, name, null, OBJECT, new String[]{Type.getInternalName(CompiledRecord.class)});
+		MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+		method.visitCode();
+		method.visitVarInsn(ALOAD, 0);
+		method.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		method.visitInsn(RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		method = writer.visitMethod(ACC_PUBLIC, "map", "(Ljava/lang/String;)Ljava/lang/Object;", null, null);
+		method.visitCode();
+		constant(method, root, RecordNode.class);
+		method.visitMethodInsn(INVOKEVIRTUAL, RECORD, "newInstance", "()Ljava/lang/Object;", false);
+		method.visitVarInsn(ASTORE, 2);
+		new MapEmitter(method).emit(root, 2);
+		method.visitVarInsn(ALOAD, 2);
+		method.visitInsn(ARETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		method = writer.visitMethod(ACC_PUBLIC, "aggregate", "(Ljava/lang/Object;L" + OUTPUT + ";)V", null, null);
+		method.visitCode();
+		new AggregateEmitter(method).emit(root, 1);
+		method.visitInsn(RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		method = writer.visitMethod(ACC_PUBLIC, "getType", "()Ljava/lang/Class;", null, null);
+		method.visitCode();
+		constant(method, root.getType(), Class.class);
+		method.visitInsn(ARETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		method = writer.visitMethod(ACC_PUBLIC, "getLength", "()I", null, null);
+		method.visitCode();
+		method.visitLdcInsn(new Layout(root).getLength());
+		method.visitInsn(IRETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+
+		method = writer.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+		method.visitCode();
+		for (int i = 0; i < constants.size(); i++) {
+			final String descriptor = Type.getDescriptor(types.get(i));
+			writer.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "K" + i, descriptor, null, null).visitEnd();
+			method.visitMethodInsn(INVOKESTATIC, Type.getInternalName(MethodHandles.class), "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+			method.visitLdcInsn("_");
+			method.visitLdcInsn(Type.getType(types.get(i)));
+			push(method, i);
+			method.visitMethodInsn(INVOKESTATIC, Type.getInternalName(MethodHandles.class), "classDataAt", "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;", false);
+			method.visitTypeInsn(CHECKCAST, Type.getInternalName(types.get(i)));
+			method.visitFieldInsn(PUTSTATIC, name, "K" + i, descriptor);
+		}
+		method.visitInsn(RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+		writer.visitEnd();
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(writer.toByteArray(), List.copyOf(constants), true);
+		return (CompiledRecord<T>) lookup.lookupClass().getDeclaredConstructor().newInstance();
+	}
+
+	private void constant(final MethodVisitor method, final Object value, final Class<?> type) {
+		final int index = constants.size();
+		constants.add(value);
+		types.add(type);
+		method.visitFieldInsn(GETSTATIC, name, "K" + index, Type.getDescriptor(type));
+	}
+
+	/**
+	 * Get the type used to access a fragment value, the primitive field type
+	 * when its codec is specialized for it, or else Object
+	 *
+	 * @param type  the field type
+	 * @param codec the fragment codec
+	 * @return the access type
+	 */
+	private static Class<?> access(final Class<?> type, final Codec<?> codec) {
+		final Class<?> specialized = CODECS.get(type);
+		return specialized != null && specialized.isInstance(codec) ? type : Object.class;
+	}
+
+	private static String suffix(final Class<?> type) {
+		return Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+	}
+
+	private static void push(final MethodVisitor method, final int value) {
+		if (value >= -1 && value <= 5) {
+			method.visitInsn(ICONST_0 + value);
+		} else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+			method.visitIntInsn(BIPUSH, value);
+		} else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			method.visitIntInsn(SIPUSH, value);
+		} else {
+			method.visitLdcInsn(value);
+		}
+	}
+
+	/**
+	 * Estimate the bytecode size of the generated methods
+	 */
+	private static final class Estimator implements NodeVisitor {
+
+		private int size;
+
+		@Override
+		public void visit(final RecordNode node) {
+			size += 16;
+			for (AbstractNode<?> visitable : node.getNodes()) {
+				visitable.accept(this);
+			}
+		}
+
+		@Override
+		public void visit(final OccurencesNode node) {
+			size += 32;
+			node.getItem().accept(this);
+		}
+
+		@Override
+		public void visit(final ZapNode node) {
+			size += 8;
+		}
+
+		@Override
+		public void visit(final FragmentNode node) {
+			size += FRAGMENT_SIZE;
+		}
+
+	}
+
+	/**
+	 * Emit code for every node of a record, looping over occurences
+	 */
+	private abstract class Emitter implements NodeVisitor {
+
+		protected final MethodVisitor method;
+		protected int holder;
+		private int locals;
+		private OccurencesNode occurences;
+		private int index;
+
+		protected Emitter(final MethodVisitor method, final int locals) {
+			this.method = method;
+			this.locals = locals;
+		}
+
+		void emit(final RecordNode node, final int bean) {
+			final int oldHolder = holder;
+			final OccurencesNode oldOccurences = occurences;
+			holder = bean;
+			occurences = null;
+			for (AbstractNode<?> visitable : node.getNodes()) {
+				visitable.accept(this);
+			}
+			holder = oldHolder;
+			occurences = oldOccurences;
+		}
+
+		/**
+		 * Allocate a local variable
+		 *
+		 * @param type the variable type
+		 * @return the variable index
+		 */
+		protected int local(final Class<?> type) {
+			final int result = locals;
+			locals += Type.getType(type).getSize();
+			return result;
+		}
+
+		@Override
+		public final void visit(final RecordNode node) {
+			if (occurences == null) {
+				constant(method, node, RecordNode.class);
+				method.visitVarInsn(ALOAD, holder);
+				method.visitMethodInsn(INVOKEVIRTUAL, RECORD, "getOrCreate", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+			} else {
+				constant(method, occurences, OccurencesNode.class);
+				method.visitVarInsn(ALOAD, holder);
+				method.visitVarInsn(ILOAD, index);
+				method.visitMethodInsn(INVOKEVIRTUAL, OCCURENCES, "getOrCreate", "(Ljava/lang/Object;I)Ljava/lang/Object;", false);
+			}
+			final int bean = local(Object.class);
+			method.visitVarInsn(ASTORE, bean);
+			emit(node, bean);
+		}
+
+		@Override
+		public final void visit(final OccurencesNode node) {
+			final int bean = holder;
+			final int oldIndex = index;
+			constant(method, node, OccurencesNode.class);
+			method.visitVarInsn(ALOAD, bean);
+			method.visitMethodInsn(INVOKEVIRTUAL, OCCURENCES, "getOrCreate", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+			final int array = local(Object.class);
+			method.visitVarInsn(ASTORE, array);
+			final int counter = local(int.class);
+			final Label loop = new Label();
+			final Label exit = new Label();
+			method.visitInsn(ICONST_0);
+			method.visitVarInsn(ISTORE, counter);
+			method.visitLabel(loop);
+			method.visitVarInsn(ILOAD, counter);
+			push(method, node.getCount());
+			method.visitJumpInsn(IF_ICMPGE, exit);
+			holder = array;
+			occurences = node;
+			index = counter;
+			item(node, counter);
+			method.visitIincInsn(counter, 1);
+			method.visitJumpInsn(GOTO, loop);
+			method.visitLabel(exit);
+			occurences = null;
+			holder = bean;
+			index = oldIndex;
+		}
+
+		/**
+		 * Emit the code of an occurence in the loop body
+		 *
+		 * @param node    the occurences node
+		 * @param counter the local variable of the occurence index
+		 */
+		protected void item(final OccurencesNode node, final int counter) {
+			node.getItem().accept(this);
+		}
+
+		@Override
+		public final void visit(final FragmentNode node) {
+			final Class<?> type;
+			final MethodHandle accessor;
+			if (occurences == null) {
+				type = access(node.getField().getType(), node.getCodec());
+				accessor = accessor(node, type);
+			} else {
+				type = access(occurences.getField().getType().getComponentType(), node.getCodec());
+				accessor = element(occurences, type);
+			}
+			fragment(node, type, accessor);
+		}
+
+		/**
+		 * Load the target of the fragment accessor, the holder bean or the
+		 * holder array and the occurence index
+		 *
+		 * @return the descriptor of the loaded values
+		 */
+		protected String target() {
+			method.visitVarInsn(ALOAD, holder);
+			if (occurences == null) {
+				return "Ljava/lang/Object;";
+			}
+			method.visitVarInsn(ILOAD, index);
+			return "Ljava/lang/Object;I";
+		}
+
+		/**
+		 * Emit the exact invocation of the accessor constant on the stack
+		 *
+		 * @param descriptor the method handle type descriptor
+		 */
+		protected void invoke(final String descriptor) {
+			method.visitMethodInsn(INVOKEVIRTUAL, HANDLE, "invokeExact", descriptor, false);
+		}
+
+		/**
+		 * Get the field accessor used by this emitter
+		 *
+		 * @param node the fragment node
+		 * @param type the access type
+		 * @return the method handle to use
+		 */
+		protected abstract MethodHandle accessor(FragmentNode node, Class<?> type);
+
+		/**
+		 * Get the array elements accessor used by this emitter
+		 *
+		 * @param node the array node
+		 * @param type the access type
+		 * @return the method handle to use, taking the element index
+		 */
+		protected abstract MethodHandle element(OccurencesNode node, Class<?> type);
+
+		/**
+		 * Emit the code for a fragment
+		 *
+		 * @param node     the fragment node
+		 * @param type     the access type, primitive or Object
+		 * @param accessor the accessor of the fragment value
+		 */
+		protected abstract void fragment(FragmentNode node, Class<?> type, MethodHandle accessor);
+
+	}
+
+	/**
+	 * Emit the body of the map method
+	 */
+	private final class MapEmitter extends Emitter {
+
+		private final int from;
+		private final int to;
+		private final int value;
+		private int base = -1;
+		private int offset = 0;
+
+		private MapEmitter(final MethodVisitor method) {
+			super(method, 3);
+			from = local(int.class);
+			to = local(int.class);
+			value = local(Object.class);
+		}
+
+		/**
+		 * Push the offset of a position, relative to the current occurence
+		 * start when in a loop
+		 *
+		 * @param delta the position from the current offset
+		 */
+		private void position(final int delta) {
+			if (base < 0) {
+				push(method, offset + delta);
+			} else {
+				method.visitVarInsn(ILOAD, base);
+				if (offset + delta != 0) {
+					push(method, offset + delta);
+					method.visitInsn(IADD);
+				}
+			}
+		}
+
+		@Override
+		protected void item(final OccurencesNode node, final int counter) {
+			final AbstractNode<?> item = node.getItem();
+			final int length = item instanceof RecordNode ? new Layout((RecordNode) item).getLength() : ((FragmentNode) item).getLenght();
+			final int oldBase = base;
+			final int oldOffset = offset;
+			final int start = local(int.class);
+			position(0);
+			method.visitVarInsn(ILOAD, counter);
+			push(method, length);
+			method.visitInsn(IMUL);
+			method.visitInsn(IADD);
+			method.visitVarInsn(ISTORE, start);
+			base = start;
+			offset = 0;
+			super.item(node, counter);
+			base = oldBase;
+			offset = oldOffset + length * node.getCount();
+		}
+
+		@Override
+		public void visit(final ZapNode node) {
+			offset += node.getLength();
+		}
+
+		@Override
+		protected MethodHandle accessor(final FragmentNode node, final Class<?> type) {
+			return node.getField().getSetter(type);
+		}
+
+		@Override
+		protected MethodHandle element(final OccurencesNode node, final Class<?> type) {
+			return node.getSetter(type);
+		}
+
+		@Override
+		protected void fragment(final FragmentNode node, final Class<?> type, final MethodHandle setter) {
+			final Label start = new Label();
+			final Label end = new Label();
+			final Label handler = new Label();
+			final Label next = new Label();
+			method.visitTryCatchBlock(start, end, handler, Type.getInternalName(Throwable.class));
+			method.visitLabel(start);
+			method.visitVarInsn(ALOAD, 1);
+			position(0);
+			push(method, node.getLenght());
+			push(method, node.getPadder());
+			method.visitFieldInsn(GETSTATIC, Type.getInternalName(PadWay.class), node.getAlignement().name(), PADWAY);
+			method.visitMethodInsn(INVOKESTATIC, FRAGMENTS, "start", BOUND, false);
+			method.visitVarInsn(ISTORE, from);
+			method.visitVarInsn(ALOAD, 1);
+			method.visitVarInsn(ILOAD, from);
+			position(node.getLenght());
+			push(method, node.getPadder());
+			method.visitFieldInsn(GETSTATIC, Type.getInternalName(PadWay.class), node.getAlignement().name(), PADWAY);
+			method.visitMethodInsn(INVOKESTATIC, FRAGMENTS, "end", BOUND, false);
+			method.visitVarInsn(ISTORE, to);
+			if (type == Object.class) {
+				constant(method, node.getCodec(), Codec.class);
+				method.visitVarInsn(ALOAD, 1);
+				method.visitVarInsn(ILOAD, from);
+				method.visitVarInsn(ILOAD, to);
+				method.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(Codec.class), "read", DECODE, true);
+				method.visitVarInsn(ASTORE, value);
+				method.visitVarInsn(ALOAD, value);
+				method.visitJumpInsn(IFNULL, end);
+				constant(method, setter, MethodHandle.class);
+				final String target = target();
+				method.visitVarInsn(ALOAD, value);
+				invoke("(" + target + "Ljava/lang/Object;)V");
+			} else {
+				final Class<?> codec = CODECS.get(type);
+				final String descriptor = Type.getDescriptor(type);
+				method.visitVarInsn(ILOAD, from);
+				method.visitVarInsn(ILOAD, to);
+				method.visitJumpInsn(IF_ICMPGE, end);
+				constant(method, setter, MethodHandle.class);
+				final String target = target();
+				constant(method, node.getCodec(), codec);
+				method.visitVarInsn(ALOAD, 1);
+				method.visitVarInsn(ILOAD, from);
+				method.visitVarInsn(ILOAD, to);
+				method.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(codec), "read" + suffix(type), "(Ljava/lang/CharSequence;II)" + descriptor, true);
+				invoke("(" + target + descriptor + ")V");
+			}
+			method.visitLabel(end);
+			method.visitJumpInsn(GOTO, next);
+			method.visitLabel(handler);
+			push(method, node.isOptional() ? 1 : 0);
+			method.visitMethodInsn(INVOKESTATIC, SUPPORT, "failure", FAILURE, false);
+			method.visitLabel(next);
+			offset += node.getLenght();
+		}
+
+	}
+
+	/**
+	 * Emit the body of the aggregate method
+	 */
+	private final class AggregateEmitter extends Emitter {
+
+		private AggregateEmitter(final MethodVisitor method) {
+			super(method, 3);
+		}
+
+		@Override
+		public void visit(final ZapNode node) {
+			method.visitVarInsn(ALOAD, 2);
+			push(method, node.getLength());
+			push(method, node.getPadding());
+			method.visitMethodInsn(INVOKEVIRTUAL, OUTPUT, "appendPadding", "(IC)L" + OUTPUT + ";", false);
+			method.visitInsn(POP);
+		}
+
+		@Override
+		protected MethodHandle accessor(final FragmentNode node, final Class<?> type) {
+			return node.getField().getGetter(type);
+		}
+
+		@Override
+		protected MethodHandle element(final OccurencesNode node, final Class<?> type) {
+			return node.getGetter(type);
+		}
+
+		@Override
+		protected void fragment(final FragmentNode node, final Class<?> type, final MethodHandle getter) {
+			final String descriptor = Type.getDescriptor(type);
+			final String signature;
+			method.visitVarInsn(ALOAD, 2);
+			if (type == Object.class) {
+				constant(method, getter, MethodHandle.class);
+				invoke("(" + target() + ")Ljava/lang/Object;");
+				constant(method, node.getCodec(), Codec.class);
+				signature = WRITE_VALUE;
+			} else
+				if (node.getCodec() instanceof Codec.Decimal && type != char.class && type != double.class && type != boolean.class) {
+					constant(method, getter, MethodHandle.class);
+					invoke("(" + target() + ")" + descriptor);
+					if (type != long.class) {
+						method.visitInsn(I2L);
+					}
+					signature = WRITE_LONG;
+				} else {
+					final Class<?> codec = CODECS.get(type);
+					constant(method, node.getCodec(), codec);
+					constant(method, getter, MethodHandle.class);
+					invoke("(" + target() + ")" + descriptor);
+					method.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(codec), "write" + suffix(type), "(" + descriptor + ")Ljava/lang/String;", true);
+					signature = WRITE_STRING;
+				}
+			push(method, node.getLenght());
+			push(method, node.getPadder());
+			method.visitFieldInsn(GETSTATIC, Type.getInternalName(PadWay.class), node.getAlignement().name(), PADWAY);
+			push(method, node.isTruncable() ? 1 : 0);
+			method.visitMethodInsn(INVOKESTATIC, FRAGMENTS, "write", signature, false);
+		}
+
+	}
+
+	/**
+	 * Handle a failure of a fragment mapping, called by generated code
+	 *
+	 * @param ex       the failure
+	 * @param optional <code>true</code> if the fragment is optional
+	 * @throws MojetRuntimeException if the fragment is not optional
+	 */
+	static void failure(final Throwable ex, final boolean optional) {
+		if (ex instanceof Error) {
+			throw (Error) ex;
+		}
+		if (!optional) {
+			throw new MojetRuntimeException("Unable to handle data", ex);
+		}
+	}
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import pro.cyberyon.mojet.nodes.FragmentNode;
+import pro.cyberyon.mojet.nodes.Segment;
+
+/**
+ * Lazy view of a line through an interface, whose getters are bound by
+ * property name to the fields of a record layout. A value is decoded on the
+ * first call of its getter, then memoized.
+ *
+ * @param <V> type of view
+ * @author Guillaume CHAUVET
+ */
+final class RecordView<V> {
+
+	private static final Object NULL = new Object();
+
+	private final Class<V> type;
+	private final Map<Method, Accessor> accessors = new HashMap<>();
+
+	/**
+	 * Bind a view interface to the fragments of a record
+	 *
+	 * @param type      the view interface
+	 * @param fragments the record fragments
+	 * @param prefix    the path prefix of the viewed record
+	 * @throws MojetRuntimeException if a getter can't be bound
+	 */
+	RecordView(final Class<V> type, final List<Segment> fragments, final String prefix) {
+		if (!type.isInterface()) {
+			throw new MojetRuntimeException("View must be an interface: " + type.getName());
+		}
+		this.type = type;
+		for (Method method : type.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			if (method.isDefault()) {
+				if (!isCallable(method.getDeclaringClass())) {
+					throw new MojetRuntimeException("Default method not callable: " + method);
+				}
+			} else if (isObjectMethod(method)) {
+				if (!isHandled(method)) {
+					throw new MojetRuntimeException("Unsupported method: " + method);
+				}
+			} else if (method.getParameterCount() > 0 || method.getReturnType() == void.class) {
+				throw new MojetRuntimeException("Not a getter: " + method);
+			} else {
+				accessors.put(method, accessor(method.getReturnType(), prefix + property(method), fragments, accessors.size()));
+			}
+		}
+	}
+
+	/**
+	 * Create a view of a line
+	 *
+	 * @param line the line to view
+	 * @return a view, whose {@link Object#toString()} is the line
+	 */
+	V create(final String line) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new Handler(line)));
+	}
+
+	private static boolean isObjectMethod(final Method method) {
+		try {
+			Object.class.getMethod(method.getName(), method.getParameterTypes());
+			return true;
+		} catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+
+	private static boolean isHandled(final Method method) {
+		final String name = method.getName();
+		return "toString".equals(name) && method.getParameterCount() == 0 || "hashCode".equals(name) && method.getParameterCount() == 0 || "equals".equals(name) && method.getParameterCount() == 1;
+	}
+
+	/**
+	 * Check the default methods of an interface can be invoked from the view
+	 * handler
+	 */
+	private static boolean isCallable(final Class<?> type) {
+		if (Modifier.isPublic(type.getModifiers())) {
+			return type.getModule().isExported(type.getPackageName(), RecordView.class.getModule());
+		}
+		return type.getPackageName().equals(RecordView.class.getPackageName()) && type.getClassLoader() == RecordView.class.getClassLoader();
+	}
+
+	private static String property(final Method method) {
+		final String name = method.getName();
+		String result = name;
+		if (name.startsWith("get") && name.length() > 3) {
+			result = StringUtils.uncapitalize(name.substring(3));
+		} else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+			result = StringUtils.uncapitalize(name.substring(2));
+		}
+		return result;
+	}
+
+	private static Accessor accessor(final Class<?> type, final String path, final List<Segment> fragments, final int slot) {
+		final List<Segment> matches = new ArrayList<>();
+		for (Segment segment : fragments) {
+			if (segment.getPath().startsWith(path)) {
+				matches.add(segment);
+			}
+		}
+		Accessor result = null;
+		for (Segment segment : matches) {
+			if (segment.getPath().equals(path)) {
+				result = new FragmentAccessor(slot, type, segment);
+			}
+		}
+		if (result == null) {
+			if (type.isArray() && matches.stream().anyMatch(t -> t.getPath().charAt(path.length()) == '[')) {
+				final List<Accessor> items = new ArrayList<>();
+				for (int i = 0; matches.stream().anyMatch(hasPrefix(path + "[" + i + "]")); i++) {
+					items.add(accessor(type.getComponentType(), path + "[" + i + "]", matches, slot));
+				}
+				result = new ArrayAccessor(slot, type.getComponentType(), items);
+			} else if (type.isInterface() && matches.stream().anyMatch(t -> t.getPath().charAt(path.length()) == '.')) {
+				result = new ViewAccessor(slot, new RecordView<>(type, matches, path + "."));
+			} else {
+				throw new MojetRuntimeException("No field " + path + " for type " + type.getName());
+			}
+		}
+		return result;
+	}
+
+	private static Predicate<Segment> hasPrefix(final String path) {
+		return t -> t.getPath().equals(path) || t.getPath().startsWith(path + ".");
+	}
+
+	/**
+	 * Decoding strategy of a getter
+	 */
+	private abstract static class Accessor {
+
+		private final int slot;
+
+		private Accessor(final int slot) {
+			this.slot = slot;
+		}
+
+		protected abstract Object decode(String line);
+
+		/**
+		 * Get the value returned to a caller from the memoized one
+		 *
+		 * @param value the memoized value
+		 * @return the value to return
+		 */
+		protected Object expose(final Object value) {
+			return value;
+		}
+	}
+
+	/**
+	 * Getter of a fragment
+	 */
+	private static final class FragmentAccessor extends Accessor {
+
+		private final Segment segment;
+		private final FragmentNode node;
+		private final Object empty;
+
+		private FragmentAccessor(final int slot, final Class<?> type, final Segment segment) {
+			super(slot);
+			this.segment = segment;
+			this.node = (FragmentNode) segment.getNode();
+			final Class<?> field = node.getField().getType();
+			if (!ClassUtils.isAssignable(field.isArray() ? field.getComponentType() : field, type, true)) {
+				throw new MojetRuntimeException("Incompatible type " + type.getName() + " for field " + segment.getPath());
+			}
+			this.empty = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+		}
+
+		@Override
+		protected Object decode(final String line) {
+			Object result = null;
+			try {
+				result = Fragments.read(line, segment.getStart(), segment.getLength(), node.getPadder(), node.getAlignement(), node.getCodec());
+			} catch (Exception ex) {
+				if (!node.isOptional()) {
+					throw new MojetRuntimeException("Unable to handle data", ex);
+				}
+			}
+			return result != null ? result : empty;
+		}
+	}
+
+	/**
+	 * Getter of an array of fragments or views
+	 */
+	private static final class ArrayAccessor extends Accessor {
+
+		private final Class<?> component;
+		private final List<Accessor> items;
+
+		private ArrayAccessor(final int slot, final Class<?> component, final List<Accessor> items) {
+			super(slot);
+			this.component = component;
+			this.items = items;
+		}
+
+		@Override
+		protected Object decode(final String line) {
+			final Object result = Array.newInstance(component, items.size());
+			for (int i = 0; i < items.size(); i++) {
+				Array.set(result, i, items.get(i).decode(line));
+			}
+			return result;
+		}
+
+		/**
+		 * Copy the memoized array, so that callers can't alter the values seen
+		 * by later calls
+		 */
+		@Override
+		protected Object expose(final Object value) {
+			final Object result = Array.newInstance(component, items.size());
+			System.arraycopy(value, 0, result, 0, items.size());
+			return result;
+		}
+	}
+
+	/**
+	 * Getter of a nested view
+	 */
+	private static final class ViewAccessor extends Accessor {
+
+		private final RecordView<?> view;
+
+		private ViewAccessor(final int slot, final RecordView<?> view) {
+			super(slot);
+			this.view = view;
+		}
+
+		@Override
+		protected Object decode(final String line) {
+			return view.create(line);
+		}
+	}
+
+	/**
+	 * Invocation handler of a view, memoizing decoded values
+	 */
+	private final class Handler implements InvocationHandler {
+
+		private final String line;
+		private final Object[] values = new Object[accessors.size()];
+
+		private Handler(final String line) {
+			this.line = line;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			final Accessor accessor = accessors.get(method);
+			final Object result;
+			if (accessor != null) {
+				if (values[accessor.slot] == null) {
+					final Object value = accessor.decode(line);
+					values[accessor.slot] = value != null ? value : NULL;
+				}
+				result = values[accessor.slot] != NULL ? accessor.expose(values[accessor.slot]) : null;
+			} else if (method.isDefault()) {
+				result = InvocationHandler.invokeDefault(proxy, method, args);
+			} else if ("toString".equals(method.getName())) {
+				result = line;
+			} else if ("hashCode".equals(method.getName())) {
+				result = System.identityHashCode(proxy);
+			} else if ("equals".equals(method.getName())) {
+				result = proxy == args[0];
+			} else {
+				throw new MojetRuntimeException("Unsupported method: " + method);
+			}
+			return result;
+		}
+	}
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import org.springframework.batch.item.file.FlatFileParseException;
+
+/**
+ * Exception raised by {@link MojetPolyLineMapper#mapLine(String, int)} for a
+ * record of a type not wanted by the step, telling skipped records apart from
+ * malformed ones. As the {@link org.springframework.batch.item.file.FlatFileItemReader}
+ * wraps it in a plain {@link FlatFileParseException}, steps skip it through an
+ * {@link UnwantedRecordSkipPolicy}.
+ *
+ * @author Guillaume CHAUVET
+ */
+public class UnwantedRecordException extends FlatFileParseException {
+
+	/**
+	 * Construct an exception
+	 *
+	 * @param input      the unwanted record
+	 * @param lineNumber the line number of the record
+	 */
+	public UnwantedRecordException(final String input, final int lineNumber) {
+		super("Unwanted record type at line " + lineNumber, input, lineNumber);
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+
+/**
+ * Skip policy of a fault tolerant step reading with a
+ * {@link MojetPolyLineMapper}, skipping every {@link UnwantedRecordException},
+ * even when wrapped by the reader. Other exceptions are left to a delegate
+ * policy, given the skip count without the unwanted records so they don't
+ * use up its skip limit. Unwanted records are counted by the policy, so each
+ * step execution uses its own instance (such as a step scoped bean).
+ *
+ * @author Guillaume CHAUVET
+ */
+public class UnwantedRecordSkipPolicy implements SkipPolicy {
+
+	private final SkipPolicy delegate;
+	private final AtomicLong unwanted = new AtomicLong();
+
+	/**
+	 * Construct a policy skipping the unwanted records only
+	 */
+	public UnwantedRecordSkipPolicy() {
+		this(new NeverSkipItemSkipPolicy());
+	}
+
+	/**
+	 * Construct a policy
+	 *
+	 * @param delegate the policy of the other exceptions
+	 */
+	public UnwantedRecordSkipPolicy(@NonNull final SkipPolicy delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean shouldSkip(final Throwable t, final long skipCount) throws SkipLimitExceededException {
+		for (Throwable cause = t; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+			if (cause instanceof UnwantedRecordException) {
+				unwanted.incrementAndGet();
+				return true;
+			}
+		}
+		return delegate.shouldSkip(t, Math.max(0, skipCount - unwanted.get()));
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import lombok.NonNull;
+import lombok.Setter;
+import org.apache.commons.text.TextStringBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+import pro.cyberyon.mojet.MojetLineAggregator;
+import pro.cyberyon.mojet.RawRecord;
+
+/**
+ * Writer of fixed length records, each record being aggregated into a reused
+ * builder and encoded straight into a reused output buffer, written to the
+ * file at the end of each chunk. The offset of the file end is saved in the
+ * execution context, the file being truncated to it on restart. Raw records
+ * passed through by a poly mapper are written as read.
+ *
+ * @param <T> pojo type
+ *
+ * @author Guillaume CHAUVET
+ */
+public class BufferedRecordWriter<T> extends ItemStreamSupport implements ItemStreamWriter<T> {
+
+	/**
+	 * The default buffer size
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+	private static final String OFFSET = "offset";
+
+	private final Resource resource;
+	private final MojetLineAggregator<T> aggregator;
+
+	/**
+	 * The single byte charset of the file, ISO-8859-1 by default
+	 */
+	@Setter
+	@NonNull
+	private ByteCharset charset = ByteCharset.ISO_8859_1;
+
+	/**
+	 * The separator following each record, a line feed by default
+	 */
+	@Setter
+	@NonNull
+	private String separator = "\n";
+
+	/**
+	 * The output buffer size, enlarged to hold a record at least
+	 */
+	@Setter
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * <code>true</code> to save the offset of the file end on update, the
+	 * default
+	 */
+	@Setter
+	private boolean saveState = true;
+
+	private final TextStringBuilder record = new TextStringBuilder();
+	private FileChannel channel;
+	private ByteBuffer buffer;
+	private byte[] separatorBytes;
+
+	/**
+	 * Construct a writer
+	 *
+	 * @param resource   the file to write
+	 * @param aggregator the aggregator of records
+	 */
+	public BufferedRecordWriter(@NonNull final Resource resource, @NonNull final MojetLineAggregator<T> aggregator) {
+		this.resource = resource;
+		this.aggregator = aggregator;
+		setName(ClassUtils.getShortName(BufferedRecordWriter.class));
+	}
+
+	/**
+	 * Construct a writer of raw records only
+	 *
+	 * @param resource the file to write
+	 */
+	BufferedRecordWriter(@NonNull final Resource resource) {
+		this.resource = resource;
+		this.aggregator = null;
+		setName(ClassUtils.getShortName(BufferedRecordWriter.class));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void open(final ExecutionContext executionContext) {
+		super.open(executionContext);
+		separatorBytes = RecordCursor.encode(separator, charset);
+		buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, (aggregator == null ? 0 : aggregator.getLength()) + separatorBytes.length));
+		final String key = getExecutionContextKey(OFFSET);
+		try {
+			channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			final long offset = saveState && executionContext.containsKey(key) ? executionContext.getLong(key) : 0;
+			channel.truncate(offset);
+			channel.position(offset);
+		} catch (IOException ex) {
+			throw new ItemStreamException("Unable to open " + resource, ex);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final Chunk<? extends T> chunk) throws Exception {
+		for (T item : chunk) {
+			record.clear();
+			if (item instanceof RawRecord) {
+				record.append(((RawRecord) item).getLine());
+			} else {
+				aggregator.aggregateTo(item, record);
+			}
+			if (buffer.remaining() < record.length() + separatorBytes.length) {
+				flush();
+			}
+			if (buffer.remaining() < record.length() + separatorBytes.length) {
+				// raw record larger than the buffer
+				for (int i = 0; i < record.length(); i++) {
+					if (!buffer.hasRemaining()) {
+						flush();
+					}
+					buffer.put(charset.encode(record.charAt(i)));
+				}
+				flush();
+			} else {
+				for (int i = 0; i < record.length(); i++) {
+					buffer.put(charset.encode(record.charAt(i)));
+				}
+			}
+			buffer.put(separatorBytes);
+		}
+		flush();
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void update(final ExecutionContext executionContext) {
+		super.update(executionContext);
+		if (saveState && channel != null) {
+			try {
+				executionContext.putLong(getExecutionContextKey(OFFSET), channel.position());
+			} catch (IOException ex) {
+				throw new ItemStreamException("Unable to get the position in " + resource, ex);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		super.close();
+		buffer = null;
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException ex) {
+				throw new ItemStreamException("Unable to close " + resource, ex);
+			} finally {
+				channel = null;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import lombok.NonNull;
+import pro.cyberyon.mojet.MojetRuntimeException;
+
+/**
+ * Table driven single byte charset (ASCII, ISO-8859-x, EBCDIC code pages...),
+ * decoding and encoding characters one at a time without any buffer.
+ *
+ * @author Guillaume CHAUVET
+ */
+public final class ByteCharset {
+
+	/**
+	 * The ISO-8859-1 charset, each byte being the character code
+	 */
+	public static final ByteCharset ISO_8859_1 = of(StandardCharsets.ISO_8859_1);
+
+	private static final char UNMAPPABLE = '\uFFFD';
+
+	/**
+	 * The underlying charset
+	 */
+	@Getter
+	private final Charset charset;
+
+	private final char[] decoding = new char[256];
+	private final byte[] encoding = new byte[Character.MAX_VALUE + 1];
+	private final boolean[] encodable = new boolean[Character.MAX_VALUE + 1];
+	private final byte replacement;
+
+	private ByteCharset(final Charset charset) {
+		this.charset = charset;
+		final CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT);
+		for (int i = 0; i < decoding.length; i++) {
+			char c = UNMAPPABLE;
+			try {
+				final CharBuffer result = decoder.reset().decode(ByteBuffer.wrap(new byte[]{(byte) i}));
+				if (result.length() == 1) {
+					c = result.get(0);
+				}
+			} catch (CharacterCodingException ex) {
+				// Unmappable byte
+			}
+			decoding[i] = c;
+			if (c != UNMAPPABLE && !encodable[c]) {
+				encoding[c] = (byte) i;
+				encodable[c] = true;
+			}
+		}
+		final CharsetEncoder encoder = charset.newEncoder();
+		replacement = encoder.replacement().length == 1 ? encoder.replacement()[0] : (byte) '?';
+	}
+
+	/**
+	 * Build the tables of a single byte charset
+	 *
+	 * @param charset the charset
+	 * @return the single byte charset
+	 * @throws MojetRuntimeException if the charset is not a single byte one
+	 */
+	public static ByteCharset of(@NonNull final Charset charset) {
+		if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1.0f || charset.newDecoder().maxCharsPerByte() != 1.0f) {
+			throw new MojetRuntimeException("Not a single byte charset: " + charset.name());
+		}
+		return new ByteCharset(charset);
+	}
+
+	/**
+	 * Decode a byte
+	 *
+	 * @param value the byte
+	 * @return the character, or U+FFFD if unmappable
+	 */
+	public char decode(final byte value) {
+		return decoding[value & 0xFF];
+	}
+
+	/**
+	 * Encode a character
+	 *
+	 * @param value the character
+	 * @return the byte, or the charset replacement byte if unmappable
+	 */
+	public byte encode(final char value) {
+		return encodable[value] ? encoding[value] : replacement;
+	}
+
+	/**
+	 * Decode a range of bytes
+	 *
+	 * @param buffer the bytes, read with absolute indexes
+	 * @param offset the first byte index
+	 * @param length the number of bytes
+	 * @return the decoded string
+	 */
+	public String decode(final ByteBuffer buffer, final int offset, final int length) {
+		final char[] result = new char[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = decoding[buffer.get(offset + i) & 0xFF];
+		}
+		return new String(result);
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import lombok.NonNull;
+
+/**
+ * Character view of a range of single byte encoded data, decoding each
+ * character on access. Fragments are read straight from the bytes, strings
+ * being only built for the fragments that need one.
+ *
+ * @author Guillaume CHAUVET
+ */
+public final class ByteSequence implements CharSequence {
+
+	private final ByteBuffer buffer;
+	private final int offset;
+	private final int length;
+	private final ByteCharset charset;
+
+	/**
+	 * Construct a view of a byte buffer range
+	 *
+	 * @param buffer  the bytes, read with absolute indexes
+	 * @param offset  the first byte index
+	 * @param length  the number of bytes
+	 * @param charset the single byte charset
+	 */
+	public ByteSequence(@NonNull final ByteBuffer buffer, final int offset, final int length, @NonNull final ByteCharset charset) {
+		this.buffer = buffer;
+		this.offset = Objects.checkFromIndexSize(offset, length, buffer.limit());
+		this.length = length;
+		this.charset = charset;
+	}
+
+	/**
+	 * Construct a view of the remaining bytes of a buffer
+	 *
+	 * @param buffer  the bytes, from position to limit
+	 * @param charset the single byte charset
+	 */
+	public ByteSequence(@NonNull final ByteBuffer buffer, @NonNull final ByteCharset charset) {
+		this(buffer, buffer.position(), buffer.remaining(), charset);
+	}
+
+	/**
+	 * Construct a view of a byte array
+	 *
+	 * @param bytes   the bytes
+	 * @param charset the single byte charset
+	 */
+	public ByteSequence(@NonNull final byte[] bytes, @NonNull final ByteCharset charset) {
+		this(ByteBuffer.wrap(bytes), 0, bytes.length, charset);
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(final int index) {
+		return charset.decode(buffer.get(offset + Objects.checkIndex(index, length)));
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		Objects.checkFromToIndex(start, end, length);
+		return charset.decode(buffer, offset + start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		return charset.decode(buffer, offset, length);
+	}
+
+}
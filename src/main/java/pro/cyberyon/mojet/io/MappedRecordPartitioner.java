@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.NonNull;
+import lombok.Setter;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import pro.cyberyon.mojet.MojetLineMapper;
+import pro.cyberyon.mojet.MojetRuntimeException;
+
+/**
+ * Partitioner splitting a file of fixed length records into byte ranges
+ * aligned on record boundaries, computed from the file size without reading
+ * it. Each partition context holds the {@link #START_KEY} and
+ * {@link #END_KEY} offsets of its range, to be bound to the start and end of
+ * a step scoped {@link MappedRecordReader}.
+ *
+ * @author Guillaume CHAUVET
+ */
+public class MappedRecordPartitioner implements Partitioner {
+
+	/**
+	 * The context key of the range start offset
+	 */
+	public static final String START_KEY = "startOffset";
+
+	/**
+	 * The context key of the range end offset
+	 */
+	public static final String END_KEY = "endOffset";
+
+	private static final String PARTITION_PREFIX = "partition";
+
+	private final Resource resource;
+	private final int length;
+
+	/**
+	 * The separator following each record, a line feed by default
+	 */
+	@Setter
+	@NonNull
+	private String separator = "\n";
+
+	/**
+	 * Construct a partitioner
+	 *
+	 * @param resource the file to split
+	 * @param mapper   the mapper of records, giving their length
+	 */
+	public MappedRecordPartitioner(@NonNull final Resource resource, @NonNull final MojetLineMapper<?> mapper) {
+		this.resource = resource;
+		this.length = mapper.getLength();
+	}
+
+	/**
+	 * Split the file in ranges of the same number of records, give or take
+	 * one. Less partitions are created when the file has less records than
+	 * the grid size.
+	 *
+	 * @param gridSize the number of partitions
+	 * @return the partition contexts, by partition name
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(final int gridSize) {
+		final long size;
+		try {
+			size = resource.contentLength();
+		} catch (IOException ex) {
+			throw new MojetRuntimeException("Unable to get the size of " + resource, ex);
+		}
+		final long stride = (long) length + separator.length();
+		final long count = (size + stride - 1) / stride;
+		final long partitions = Math.min(gridSize, count);
+		final Map<String, ExecutionContext> result = new LinkedHashMap<>();
+		long first = 0;
+		for (int i = 0; i < partitions; i++) {
+			final long last = first + count / partitions + (i < count % partitions ? 1 : 0);
+			final ExecutionContext context = new ExecutionContext();
+			context.putLong(START_KEY, first * stride);
+			context.putLong(END_KEY, Math.min(size, last * stride));
+			result.put(PARTITION_PREFIX + i, context);
+			first = last;
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import lombok.NonNull;
+import lombok.Setter;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reader of fixed length records from a memory mapped file, each record being
+ * sliced by the length of its layout and mapped straight from the bytes,
+ * without any line splitting. The file is mapped through windows so it can be
+ * larger than 2 GB, and records can be followed by a separator or not. With a
+ * {@link pro.cyberyon.mojet.MojetPolyLineMapper}, the length of each record is
+ * the one of the record type matching its first characters, so mainframe
+ * extracts of concatenated records of several types are read as is. The
+ * reader can be bounded to a byte range, such as the partitions of a
+ * {@link MappedRecordPartitioner}. The offset of the next record is saved in
+ * the execution context, so a restart seeks the file instead of reading and
+ * discarding the records already read.
+ *
+ * @param <T> pojo type
+ *
+ * @author Guillaume CHAUVET
+ */
+public class MappedRecordReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+	/**
+	 * The default window size
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+	private static final String OFFSET = "offset";
+
+	private final Resource resource;
+	private final RecordMapper<T> mapper;
+
+	/**
+	 * The single byte charset of the file, ISO-8859-1 by default
+	 */
+	@Setter
+	@NonNull
+	private ByteCharset charset = ByteCharset.ISO_8859_1;
+
+	/**
+	 * The separator following each record, a line feed by default. An empty
+	 * separator reads records concatenated without separator, and the
+	 * separator of the last record is optional.
+	 */
+	@Setter
+	@NonNull
+	private String separator = "\n";
+
+	/**
+	 * The maximum number of bytes mapped at once
+	 */
+	@Setter
+	private int windowSize = DEFAULT_WINDOW_SIZE;
+
+	/**
+	 * The offset of the first record to read, 0 by default
+	 */
+	@Setter
+	private long start = 0;
+
+	/**
+	 * The offset following the last record to read, the end of file by default
+	 */
+	@Setter
+	private long end = Long.MAX_VALUE;
+
+	private FileChannel channel;
+	private RecordCursor<T> cursor;
+	private long restart = -1;
+
+	/**
+	 * Construct a reader
+	 *
+	 * @param resource the file to read
+	 * @param mapper   the mapper of records
+	 */
+	public MappedRecordReader(@NonNull final Resource resource, @NonNull final RecordMapper<T> mapper) {
+		this.resource = resource;
+		this.mapper = mapper;
+		setName(ClassUtils.getShortName(MappedRecordReader.class));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void doOpen() throws Exception {
+		channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+		cursor = new RecordCursor<>(channel, start, Math.min(end, channel.size()), windowSize, mapper, charset, separator);
+	}
+
+	/**
+	 * Read the next record, the records mapped to null being skipped
+	 *
+	 * @return the next record, or null at the end of the area
+	 * @throws Exception if the record can't be read
+	 */
+	@Override
+	protected T doRead() throws Exception {
+		while (cursor.hasNext()) {
+			final T result = cursor.next();
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void open(final ExecutionContext executionContext) {
+		final String key = getExecutionContextKey(OFFSET);
+		restart = isSaveState() && executionContext.containsKey(key) ? executionContext.getLong(key) : -1;
+		super.open(executionContext);
+	}
+
+	/**
+	 * Move to the saved offset of the next record on restart, the records
+	 * being read and discarded only if no offset was saved
+	 *
+	 * @param itemIndex the index of the next record
+	 * @throws Exception if the records can't be read
+	 */
+	@Override
+	protected void jumpToItem(final int itemIndex) throws Exception {
+		if (restart < 0) {
+			super.jumpToItem(itemIndex);
+		} else {
+			cursor.seek(restart);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void update(final ExecutionContext executionContext) {
+		super.update(executionContext);
+		if (isSaveState() && cursor != null) {
+			executionContext.putLong(getExecutionContextKey(OFFSET), cursor.getPosition());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void doClose() throws Exception {
+		cursor = null;
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+}
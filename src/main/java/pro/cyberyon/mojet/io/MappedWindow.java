@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read only mapping of a file area, moved forward when a record crosses its
+ * end so files larger than 2 GB are read through windows of a bounded size.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class MappedWindow {
+
+	private final FileChannel channel;
+	private final long end;
+	private final int capacity;
+	private ByteBuffer buffer;
+	private long base;
+
+	/**
+	 * Construct a window over a file
+	 *
+	 * @param channel  the file channel
+	 * @param end      the end offset of the mappable area
+	 * @param capacity the maximum window size
+	 */
+	MappedWindow(final FileChannel channel, final long end, final int capacity) {
+		this.channel = channel;
+		this.end = end;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Map a file area, the window being moved if the area is not mapped
+	 *
+	 * @param position the area offset in the file
+	 * @param length   the area length
+	 * @return the index of the area in the window buffer
+	 * @throws IOException if the file can't be mapped
+	 */
+	int map(final long position, final int length) throws IOException {
+		if (buffer == null || position < base || position + length > base + buffer.limit()) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Math.max(capacity, length), end - position));
+			base = position;
+		}
+		return (int) (position - base);
+	}
+
+	/**
+	 * Get the mapped bytes
+	 *
+	 * @return the window buffer, read with absolute indexes
+	 */
+	ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+}
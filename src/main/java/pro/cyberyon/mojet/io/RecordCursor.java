@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import pro.cyberyon.mojet.MojetRuntimeException;
+
+/**
+ * Sequential slicing of the records of a file area through a mapped window,
+ * checking the separator following each record.
+ *
+ * @param <T> pojo type
+ *
+ * @author Guillaume CHAUVET
+ */
+final class RecordCursor<T> {
+
+	private final MappedWindow window;
+	private final RecordMapper<T> mapper;
+	private final ByteCharset charset;
+	private final byte[] separator;
+	private final int maxLength;
+	private final long limit;
+	private long position;
+
+	/**
+	 * Construct a cursor
+	 *
+	 * @param channel    the file channel
+	 * @param start      the offset of the first record
+	 * @param limit      the offset following the last record
+	 * @param windowSize the maximum number of bytes mapped at once
+	 * @param mapper     the mapper of records
+	 * @param charset    the single byte charset
+	 * @param separator  the separator following each record
+	 */
+	RecordCursor(final FileChannel channel, final long start, final long limit, final int windowSize, final RecordMapper<T> mapper, final ByteCharset charset, final String separator) {
+		this.window = new MappedWindow(channel, limit, windowSize);
+		this.mapper = mapper;
+		this.charset = charset;
+		this.separator = encode(separator, charset);
+		this.maxLength = mapper.getMaxLength();
+		this.limit = limit;
+		this.position = start;
+	}
+
+	/**
+	 * Encode a record separator
+	 *
+	 * @param separator the separator
+	 * @param charset   the single byte charset
+	 * @return the separator bytes
+	 */
+	static byte[] encode(final String separator, final ByteCharset charset) {
+		final byte[] result = new byte[separator.length()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = charset.encode(separator.charAt(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Check if a record remains
+	 *
+	 * @return <code>true</code> if the area end is not reached
+	 */
+	boolean hasNext() {
+		return position < limit;
+	}
+
+	/**
+	 * Map the next record
+	 *
+	 * @return the mapped record
+	 * @throws IOException           if the file can't be mapped
+	 * @throws MojetRuntimeException if the record or its separator are
+	 *                               malformed
+	 */
+	T next() throws IOException {
+		final int available = (int) Math.min(maxLength, limit - position);
+		final int index = window.map(position, (int) Math.min(maxLength + separator.length, limit - position));
+		final ByteBuffer buffer = window.getBuffer();
+		final int length = mapper.getLength(new ByteSequence(buffer, index, available, charset));
+		if (available < length) {
+			throw new MojetRuntimeException("Truncated record at offset " + position);
+		}
+		final int gap = (int) Math.min(separator.length, limit - position - length);
+		for (int i = 0; i < gap; i++) {
+			if (buffer.get(index + length + i) != separator[i]) {
+				throw new MojetRuntimeException("Record separator expected at offset " + (position + length));
+			}
+		}
+		position += length + gap;
+		return mapper.map(new ByteSequence(buffer, index, length, charset));
+	}
+
+	/**
+	 * Get the offset of the next record
+	 *
+	 * @return the next record offset
+	 */
+	long getPosition() {
+		return position;
+	}
+
+	/**
+	 * Move to a record
+	 *
+	 * @param position the record offset
+	 */
+	void seek(final long position) {
+		this.position = position;
+	}
+
+}
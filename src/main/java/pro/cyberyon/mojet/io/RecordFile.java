@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.Getter;
+import lombok.NonNull;
+import pro.cyberyon.mojet.MojetLineMapper;
+import pro.cyberyon.mojet.MojetRuntimeException;
+
+/**
+ * File of fixed length records, each record being at an offset computed from
+ * its index. The records are streamed from memory mapped windows, parallel
+ * streams being split on record boundaries, or read by index with positional
+ * reads.
+ *
+ * @param <T> pojo type
+ *
+ * @author Guillaume CHAUVET
+ */
+public final class RecordFile<T> implements Closeable {
+
+	private final FileChannel channel;
+	private final MojetLineMapper<T> mapper;
+	private final ByteCharset charset;
+	private final String separator;
+	private final long stride;
+	private final long limit;
+
+	/**
+	 * The number of records
+	 */
+	@Getter
+	private final long count;
+
+	private RecordFile(final FileChannel channel, final MojetLineMapper<T> mapper, final ByteCharset charset, final String separator) throws IOException {
+		this.channel = channel;
+		this.mapper = mapper;
+		this.charset = charset;
+		this.separator = separator;
+		this.stride = (long) mapper.getLength() + separator.length();
+		this.limit = channel.size();
+		this.count = (limit + stride - 1) / stride;
+	}
+
+	/**
+	 * Open a file of ISO-8859-1 records separated by line feeds
+	 *
+	 * @param <T>  pojo type
+	 * @param file the file path
+	 * @param type the pojo class
+	 * @return the opened file
+	 * @throws IOException if the file can't be opened
+	 */
+	public static <T> RecordFile<T> open(@NonNull final Path file, @NonNull final Class<T> type) throws IOException {
+		return open(file, new MojetLineMapper<>(type), ByteCharset.ISO_8859_1, "\n");
+	}
+
+	/**
+	 * Open a file of records
+	 *
+	 * @param <T>       pojo type
+	 * @param file      the file path
+	 * @param mapper    the mapper of records
+	 * @param charset   the single byte charset
+	 * @param separator the separator following each record, the one of the
+	 *                  last record being optional
+	 * @return the opened file
+	 * @throws IOException if the file can't be opened
+	 */
+	public static <T> RecordFile<T> open(@NonNull final Path file, @NonNull final MojetLineMapper<T> mapper, @NonNull final ByteCharset charset, @NonNull final String separator) throws IOException {
+		final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new RecordFile<>(channel, mapper, charset, separator);
+		} catch (IOException | RuntimeException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Stream the records of a file of ISO-8859-1 records separated by line
+	 * feeds, the file being closed with the stream
+	 *
+	 * @param <T>  pojo type
+	 * @param file the file path
+	 * @param type the pojo class
+	 * @return the stream of records
+	 * @throws IOException if the file can't be opened
+	 */
+	public static <T> Stream<T> stream(@NonNull final Path file, @NonNull final Class<T> type) throws IOException {
+		final RecordFile<T> result = open(file, type);
+		return result.stream().onClose(result::closeUnchecked);
+	}
+
+	/**
+	 * Stream the records, the stream being parallel splittable on record
+	 * boundaries
+	 *
+	 * @return the sequential stream of records
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(new RecordSpliterator<>(this, 0, count), false);
+	}
+
+	/**
+	 * Read a record by index, with a positional read of its bytes
+	 *
+	 * @param index the record index
+	 * @return the mapped record
+	 * @throws UncheckedIOException if the file can't be read
+	 */
+	public T get(final long index) {
+		Objects.checkIndex(index, count);
+		return mapper.map(new ByteSequence(read(index * stride, mapper.getLength()), charset));
+	}
+
+	/**
+	 * Read a range of records, with a single positional read of their bytes
+	 *
+	 * @param from   the index of the first record
+	 * @param length the number of records
+	 * @return the mapped records
+	 * @throws UncheckedIOException if the file can't be read
+	 */
+	public List<T> get(final long from, final int length) {
+		Objects.checkFromIndexSize(from, length, count);
+		final List<T> result = new ArrayList<>(length);
+		if (length == 0) {
+			return result;
+		}
+		final ByteBuffer buffer = read(from * stride, Math.toIntExact((length - 1) * stride + mapper.getLength()));
+		for (int i = 0; i < length; i++) {
+			result.add(mapper.map(new ByteSequence(buffer, Math.toIntExact(i * stride), mapper.getLength(), charset)));
+		}
+		return result;
+	}
+
+	private ByteBuffer read(final long position, final int size) {
+		final ByteBuffer result = ByteBuffer.allocate(size);
+		try {
+			while (result.hasRemaining()) {
+				if (channel.read(result, position + result.position()) < 0) {
+					throw new MojetRuntimeException("Truncated record at offset " + (position + result.position()));
+				}
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return result.flip();
+	}
+
+	/**
+	 * Create a cursor over a range of records
+	 *
+	 * @param from the index of the first record
+	 * @param to   the index following the last record
+	 * @return the cursor
+	 */
+	RecordCursor<T> cursor(final long from, final long to) {
+		return new RecordCursor<>(channel, from * stride, Math.min(limit, to * stride), MappedRecordReader.DEFAULT_WINDOW_SIZE, mapper, charset, separator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private void closeUnchecked() {
+		try {
+			close();
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
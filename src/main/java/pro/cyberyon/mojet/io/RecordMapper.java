@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+/**
+ * Mapper of records sliced from bytes without line separators, the length of
+ * each record being resolved from its first characters.
+ *
+ * @param <T> pojo type
+ *
+ * @author Guillaume CHAUVET
+ */
+public interface RecordMapper<T> {
+
+	/**
+	 * Get the maximum length of the records
+	 *
+	 * @return the number of characters of the longest record
+	 */
+	int getMaxLength();
+
+	/**
+	 * Get the length of the record starting a character sequence
+	 *
+	 * @param data the next characters, at least the maximum length of the
+	 *             records or up to the end of data
+	 * @return the number of characters of the record
+	 * @throws pro.cyberyon.mojet.MojetRuntimeException if the record is
+	 *                                                  unknown
+	 */
+	int getLength(CharSequence data);
+
+	/**
+	 * Map the characters of a record
+	 *
+	 * @param record the record characters
+	 * @return the mapped record, or null to skip it
+	 */
+	T map(CharSequence record);
+
+}
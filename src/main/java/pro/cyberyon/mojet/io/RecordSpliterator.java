@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a range of fixed length records, split on record
+ * boundaries computed from the record length. Each split maps its own windows
+ * of the file.
+ *
+ * @param <T> pojo type
+ *
+ * @author Guillaume CHAUVET
+ */
+final class RecordSpliterator<T> implements Spliterator<T> {
+
+	private final RecordFile<T> file;
+	private long from;
+	private final long to;
+	private RecordCursor<T> cursor;
+
+	/**
+	 * Construct a spliterator
+	 *
+	 * @param file the file of records
+	 * @param from the index of the first record
+	 * @param to   the index following the last record
+	 */
+	RecordSpliterator(final RecordFile<T> file, final long from, final long to) {
+		this.file = file;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super T> action) {
+		if (from >= to) {
+			return false;
+		}
+		if (cursor == null) {
+			cursor = file.cursor(from, to);
+		}
+		try {
+			action.accept(cursor.next());
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		from++;
+		return true;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		if (cursor != null || to - from < 2) {
+			return null;
+		}
+		final long middle = from + (to - from) / 2;
+		final RecordSpliterator<T> result = new RecordSpliterator<>(file, from, middle);
+		from = middle;
+		return result;
+	}
+
+	@Override
+	public long estimateSize() {
+		return to - from;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+}
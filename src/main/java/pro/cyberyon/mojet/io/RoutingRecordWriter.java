@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.NonNull;
+import lombok.Setter;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+import pro.cyberyon.mojet.MojetLineAggregator;
+import pro.cyberyon.mojet.MojetPolyLineAggregator;
+import pro.cyberyon.mojet.MojetRuntimeException;
+import pro.cyberyon.mojet.RawRecord;
+import pro.cyberyon.mojet.RecordVisitable;
+
+/**
+ * Writer routing each record of a multi-type stream to the file of its record
+ * class, in a single pass. Each file is written by its own
+ * {@link BufferedRecordWriter}, the records of subclasses and proxies going to
+ * the file of their nearest registered ancestor. Raw records passed through by
+ * a poly mapper are written as read to an optional pass-through file.
+ *
+ * @param <T> visitable pojo type
+ *
+ * @author Guillaume CHAUVET
+ */
+public class RoutingRecordWriter<T extends RecordVisitable> extends ItemStreamSupport implements ItemStreamWriter<T> {
+
+	private final MojetPolyLineAggregator<T> aggregator;
+	private final Map<Class<? extends T>, BufferedRecordWriter<T>> writers = new LinkedHashMap<>();
+	private final Map<Class<? extends T>, Chunk<T>> chunks = new LinkedHashMap<>();
+	private final Map<MojetLineAggregator<? extends T>, Chunk<T>> routes = new IdentityHashMap<>();
+	private final BufferedRecordWriter<T> passThrough;
+	private final Chunk<T> raws = new Chunk<>();
+
+	/**
+	 * The single byte charset of the files, ISO-8859-1 by default
+	 */
+	@Setter
+	@NonNull
+	private ByteCharset charset = ByteCharset.ISO_8859_1;
+
+	/**
+	 * The separator following each record, a line feed by default
+	 */
+	@Setter
+	@NonNull
+	private String separator = "\n";
+
+	/**
+	 * The output buffer size of each file
+	 */
+	@Setter
+	private int bufferSize = BufferedRecordWriter.DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * <code>true</code> to save the offset of each file end on update, the
+	 * default
+	 */
+	@Setter
+	private boolean saveState = true;
+
+	/**
+	 * Construct a writer
+	 *
+	 * @param outputs the file of each record class
+	 * @throws MojetRuntimeException if there is no output
+	 */
+	public RoutingRecordWriter(@NonNull final Map<Class<? extends T>, Resource> outputs) {
+		this(outputs, null);
+	}
+
+	/**
+	 * Construct a writer
+	 *
+	 * @param outputs     the file of each record class
+	 * @param passThrough the file of raw records, <code>null</code> to reject
+	 *                    them
+	 * @throws MojetRuntimeException if there is no output
+	 */
+	public RoutingRecordWriter(@NonNull final Map<Class<? extends T>, Resource> outputs, final Resource passThrough) {
+		if (outputs.isEmpty()) {
+			throw new MojetRuntimeException("No output defined");
+		}
+		aggregator = new MojetPolyLineAggregator<>(outputs.keySet());
+		for (Map.Entry<Class<? extends T>, Resource> output : outputs.entrySet()) {
+			final MojetLineAggregator<? extends T> delegate = aggregator.getAggregators().get(output.getKey());
+			final Chunk<T> chunk = new Chunk<>();
+			writers.put(output.getKey(), new BufferedRecordWriter<>(output.getValue(), (MojetLineAggregator<T>) delegate));
+			chunks.put(output.getKey(), chunk);
+			routes.put(delegate, chunk);
+		}
+		this.passThrough = passThrough == null ? null : new BufferedRecordWriter<>(passThrough);
+		setName(ClassUtils.getShortName(RoutingRecordWriter.class));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void open(final ExecutionContext executionContext) {
+		super.open(executionContext);
+		for (Map.Entry<Class<? extends T>, BufferedRecordWriter<T>> entry : writers.entrySet()) {
+			open(entry.getValue(), entry.getKey(), executionContext);
+		}
+		if (passThrough != null) {
+			open(passThrough, RawRecord.class, executionContext);
+		}
+	}
+
+	private void open(final BufferedRecordWriter<T> writer, final Class<?> type, final ExecutionContext executionContext) {
+		writer.setName(getExecutionContextKey(type.getName()));
+		writer.setCharset(charset);
+		writer.setSeparator(separator);
+		writer.setBufferSize(bufferSize);
+		writer.setSaveState(saveState);
+		writer.open(executionContext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final Chunk<? extends T> chunk) throws Exception {
+		try {
+			for (T item : chunk) {
+				if (item instanceof RawRecord) {
+					if (passThrough == null) {
+						throw new MojetRuntimeException("No pass-through output for raw records");
+					}
+					raws.add(item);
+				} else {
+					routes.get(aggregator.aggregator(item)).add(item);
+				}
+			}
+			for (Map.Entry<Class<? extends T>, BufferedRecordWriter<T>> entry : writers.entrySet()) {
+				final Chunk<T> items = chunks.get(entry.getKey());
+				if (!items.isEmpty()) {
+					entry.getValue().write(items);
+				}
+			}
+			if (!raws.isEmpty()) {
+				passThrough.write(raws);
+			}
+		} finally {
+			for (Chunk<T> items : chunks.values()) {
+				items.clear();
+			}
+			raws.clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void update(final ExecutionContext executionContext) {
+		super.update(executionContext);
+		for (BufferedRecordWriter<T> writer : writers.values()) {
+			writer.update(executionContext);
+		}
+		if (passThrough != null) {
+			passThrough.update(executionContext);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		super.close();
+		for (BufferedRecordWriter<T> writer : writers.values()) {
+			writer.close();
+		}
+		if (passThrough != null) {
+			passThrough.close();
+		}
+	}
+
+}
@@ -15,9 +15,7 @@
  */
 package pro.cyberyon.mojet.nodes;
 
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * skeleton class for node's implementation
@@ -25,7 +23,6 @@ import lombok.RequiredArgsConstructor;
  * @param <A> the annotation to handle
  * @author Guillaume CHAUVET
  */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractNode<A> implements NodeVisitable {
 
 	/**
@@ -39,4 +36,22 @@ public abstract class AbstractNode<A> implements NodeVisitable {
 	@Getter
 	protected final String accessor;
 
+	/**
+	 * The compiled field accessor, null for anonymous nodes
+	 */
+	@Getter
+	protected final FieldAccessor field;
+
+	/**
+	 * Construct a node
+	 *
+	 * @param annotation the annotation to decorate
+	 * @param field      the field accessor, or null if not bound to a field
+	 */
+	protected AbstractNode(final A annotation, final FieldAccessor field) {
+		this.annotation = annotation;
+		this.field = field;
+		this.accessor = field != null ? field.getName() : "";
+	}
+
 }
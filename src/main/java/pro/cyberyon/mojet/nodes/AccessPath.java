@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.nodes;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * Chain of accessors leading from a root record to a nested record instance,
+ * resolved once when flattening the nodes.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class AccessPath {
+
+	/**
+	 * The empty path, targeting the root record itself
+	 */
+	static final AccessPath ROOT = new AccessPath(new UnaryOperator[0], "");
+
+	private final UnaryOperator<Object>[] steps;
+	private final String path;
+
+	private AccessPath(final UnaryOperator<Object>[] steps, final String path) {
+		this.steps = steps;
+		this.path = path;
+	}
+
+	/**
+	 * Extend the path with a nested record field
+	 *
+	 * @param node the nested record node
+	 * @return a new path
+	 */
+	AccessPath field(final RecordNode node) {
+		return append(path(node.getAccessor()), node::getOrCreate);
+	}
+
+	/**
+	 * Extend the path with an array field
+	 *
+	 * @param node the occurences node
+	 * @return a new path, whose property path is unchanged
+	 */
+	AccessPath array(final OccurencesNode node) {
+		return append(path, node::getOrCreate);
+	}
+
+	/**
+	 * Extend the path with a record element of an array
+	 *
+	 * @param node  the occurences node
+	 * @param index the element index
+	 * @return a new path
+	 */
+	AccessPath element(final OccurencesNode node, final int index) {
+		return array(node).append(path(node.getAccessor() + "[" + index + "]"), array -> node.getOrCreate(array, index));
+	}
+
+	/**
+	 * Build the property path of a member of the target record
+	 *
+	 * @param name the member name
+	 * @return a property path
+	 */
+	String path(final String name) {
+		return path.isEmpty() ? name : path + "." + name;
+	}
+
+	/**
+	 * Walk the path from the root record, allocating missing instances
+	 *
+	 * @param root the root record instance
+	 * @return the target instance
+	 */
+	Object resolve(final Object root) {
+		Object result = root;
+		for (int i = 0; i < steps.length; i++) {
+			result = steps[i].apply(result);
+		}
+		return result;
+	}
+
+	private AccessPath append(final String newPath, final UnaryOperator<Object> step) {
+		final UnaryOperator<Object>[] result = Arrays.copyOf(steps, steps.length + 1);
+		result[steps.length] = step;
+		return new AccessPath(result, newPath);
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.nodes;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import lombok.Getter;
+import lombok.NonNull;
+import pro.cyberyon.mojet.MojetRuntimeException;
+
+/**
+ * Compiled accessor of a pojo field, resolved once when building nodes.
+ *
+ * @author Guillaume CHAUVET
+ */
+public final class FieldAccessor {
+
+	private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * The field name
+	 */
+	@Getter
+	private final String name;
+
+	/**
+	 * The declared field type
+	 */
+	@Getter
+	private final Class<?> type;
+
+	/**
+	 * The getter method handle, of <code>(Object)Object</code> type
+	 */
+	@Getter
+	private final MethodHandle getter;
+
+	/**
+	 * The setter method handle, of <code>(Object,Object)void</code> type
+	 */
+	@Getter
+	private final MethodHandle setter;
+
+	private final MethodHandle rawGetter;
+	private final MethodHandle rawSetter;
+
+	/**
+	 * Construct a field accessor
+	 *
+	 * @param field the field to access
+	 * @throws MojetRuntimeException if the field can't be accessed
+	 */
+	public FieldAccessor(@NonNull final Field field) {
+		this.name = field.getName();
+		this.type = field.getType();
+		try {
+			field.trySetAccessible();
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			rawGetter = lookup.unreflectGetter(field);
+			rawSetter = lookup.unreflectSetter(field);
+			getter = rawGetter.asType(GETTER);
+			setter = rawSetter.asType(SETTER);
+		} catch (IllegalAccessException ex) {
+			throw new MojetRuntimeException("Can't access field " + name, ex);
+		}
+	}
+
+	/**
+	 * Get a getter method handle returning a given type, to read primitive
+	 * fields without boxing
+	 *
+	 * @param type the value type, the field type or Object
+	 * @return a method handle of <code>(Object)type</code> type
+	 */
+	public MethodHandle getGetter(final Class<?> type) {
+		return rawGetter.asType(MethodType.methodType(type, Object.class));
+	}
+
+	/**
+	 * Get a setter method handle accepting a given type, to write primitive
+	 * fields without boxing
+	 *
+	 * @param type the value type, the field type or Object
+	 * @return a method handle of <code>(Object,type)void</code> type
+	 */
+	public MethodHandle getSetter(final Class<?> type) {
+		return rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+	}
+
+	/**
+	 * Read the field value
+	 *
+	 * @param bean the instance holding the field
+	 * @return the field value
+	 */
+	public Object get(final Object bean) {
+		try {
+			return (Object) getter.invokeExact(bean);
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't read field " + name, ex);
+		}
+	}
+
+	/**
+	 * Write the field value
+	 *
+	 * @param bean  the instance holding the field
+	 * @param value the value to set
+	 */
+	public void set(final Object bean, final Object value) {
+		try {
+			setter.invokeExact(bean, value);
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't write field " + name, ex);
+		}
+	}
+
+}
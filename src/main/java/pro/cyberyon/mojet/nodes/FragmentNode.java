@@ -19,6 +19,7 @@ import lombok.Getter;
 import pro.cyberyon.mojet.Fragment;
 import pro.cyberyon.mojet.Fragment.PadWay;
 import pro.cyberyon.mojet.MojetRuntimeException;
+import pro.cyberyon.mojet.types.Codec;
 import pro.cyberyon.mojet.types.TypeHandler;
 
 /**
@@ -31,19 +32,30 @@ public class FragmentNode extends AbstractNode<Fragment> {
 	@Getter
 	private final TypeHandler<?> handler;
 
+	/**
+	 * The handler bound to the fragment format and length
+	 */
+	@Getter
+	private final Codec<?> codec;
+
 	/**
 	 * Construct a fragment node instance
 	 *
-	 * @param accessor   the field accessor name
+	 * @param field      the field accessor
 	 * @param annotation the fragment annotation
 	 * @param handler    the concrete handle to use
 	 */
-	public FragmentNode(final String accessor, final Fragment annotation, final TypeHandler<?> handler) {
-		super(annotation, accessor);
+	public FragmentNode(final FieldAccessor field, final Fragment annotation, final TypeHandler<?> handler) {
+		super(annotation, field);
 		this.handler = handler;
 		if (getLenght() < 1) {
 			throw new MojetRuntimeException("Lenght must be a positive value");
 		}
+		try {
+			this.codec = handler.bind(getFormat(), getLenght());
+		} catch (IllegalArgumentException ex) {
+			throw new MojetRuntimeException("Invalid format " + getFormat() + " of " + accessor, ex);
+		}
 	}
 
 	/**
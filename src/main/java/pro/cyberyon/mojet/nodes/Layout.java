@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.nodes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import pro.cyberyon.mojet.MojetRuntimeException;
+
+/**
+ * Immutable flattened view of a record tree: every fragment and filler of the
+ * record, occurences expanded, located by absolute offsets.
+ *
+ * @author Guillaume CHAUVET
+ */
+public final class Layout {
+
+	/**
+	 * The root record node
+	 */
+	@Getter
+	private final RecordNode root;
+
+	/**
+	 * Every segment, in line order
+	 */
+	@Getter
+	private final List<Segment> segments;
+
+	/**
+	 * The fragment segments only, in line order
+	 */
+	@Getter
+	private final List<Segment> fragments;
+
+	/**
+	 * The total record length
+	 */
+	@Getter
+	private final int length;
+
+	/**
+	 * Flatten a record tree
+	 *
+	 * @param root the root record node
+	 */
+	public Layout(final RecordNode root) {
+		this.root = root;
+		final Flattener flattener = new Flattener();
+		flattener.visitNodes(root);
+		final List<Segment> result = new ArrayList<>();
+		for (Segment segment : flattener.segments) {
+			if (!segment.isFiller()) {
+				result.add(segment);
+			}
+		}
+		this.segments = Collections.unmodifiableList(flattener.segments);
+		this.fragments = Collections.unmodifiableList(result);
+		this.length = flattener.offset;
+	}
+
+	private Layout(final Layout layout, final List<Segment> fragments) {
+		this.root = layout.root;
+		this.segments = layout.segments;
+		this.fragments = Collections.unmodifiableList(fragments);
+		this.length = layout.length;
+	}
+
+	/**
+	 * Restrict the fragments of the layout to some fields. A field path
+	 * selects its own segment, every element of an array, or every fragment of
+	 * a nested record (such as <code>id</code>, <code>values</code>,
+	 * <code>values[1]</code>, <code>child</code> or
+	 * <code>childrens[0].label</code>).
+	 *
+	 * @param paths the field paths to keep
+	 * @return a layout whose fragments are the selected ones, offsets unchanged
+	 * @throws MojetRuntimeException if a path selects no fragment
+	 */
+	public Layout project(final Collection<String> paths) {
+		final List<Segment> result = new ArrayList<>();
+		for (Segment segment : fragments) {
+			for (String path : paths) {
+				if (matches(segment.getPath(), path)) {
+					result.add(segment);
+					break;
+				}
+			}
+		}
+		for (String path : paths) {
+			if (result.stream().noneMatch(t -> matches(t.getPath(), path))) {
+				throw new MojetRuntimeException("Unknown field " + path);
+			}
+		}
+		return new Layout(this, result);
+	}
+
+	private static boolean matches(final String path, final String selection) {
+		return path.startsWith(selection) && (path.length() == selection.length() || path.charAt(selection.length()) == '.' || path.charAt(selection.length()) == '[');
+	}
+
+	/**
+	 * Visitor computing the segments of a record tree
+	 */
+	private static final class Flattener implements NodeVisitor {
+
+		private final List<Segment> segments = new ArrayList<>();
+		private int offset = 0;
+		private AccessPath holder = AccessPath.ROOT;
+		private OccurencesNode occurences;
+		private int item;
+
+		private void visitNodes(final RecordNode node) {
+			final OccurencesNode oldOccurences = occurences;
+			final int oldItem = item;
+			occurences = null;
+			for (AbstractNode<?> visitable : node.getNodes()) {
+				visitable.accept(this);
+			}
+			occurences = oldOccurences;
+			item = oldItem;
+		}
+
+		@Override
+		public void visit(final RecordNode node) {
+			final AccessPath old = holder;
+			holder = occurences == null ? holder.field(node) : holder.element(occurences, item);
+			visitNodes(node);
+			holder = old;
+		}
+
+		@Override
+		public void visit(final OccurencesNode node) {
+			occurences = node;
+			for (item = 0; item < node.getCount(); item++) {
+				node.getItem().accept(this);
+			}
+			occurences = null;
+		}
+
+		@Override
+		public void visit(final ZapNode node) {
+			add(new Segment(offset, node));
+		}
+
+		@Override
+		public void visit(final FragmentNode node) {
+			add(occurences == null ? new Segment(offset, node, holder) : new Segment(offset, node, holder, occurences, item));
+		}
+
+		private void add(final Segment segment) {
+			segments.add(segment);
+			offset = segment.getEnd();
+		}
+	}
+
+}
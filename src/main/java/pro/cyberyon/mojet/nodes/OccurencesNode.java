@@ -15,6 +15,10 @@
  */
 package pro.cyberyon.mojet.nodes;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import lombok.Getter;
 import pro.cyberyon.mojet.MojetRuntimeException;
 import pro.cyberyon.mojet.Occurences;
@@ -29,19 +33,25 @@ public class OccurencesNode extends AbstractNode<Occurences> {
 	@Getter
 	private final AbstractNode<?> item;
 
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+
 	/**
 	 * Construct a node occurences
 	 *
-	 * @param accessor   the accessor field name
+	 * @param field      the array field accessor
 	 * @param annotation the occurences annotation
 	 * @param item       Node to iterate
 	 */
-	public OccurencesNode(final String accessor, final Occurences annotation, final AbstractNode<?> item) {
-		super(annotation, accessor);
+	public OccurencesNode(final FieldAccessor field, final Occurences annotation, final AbstractNode<?> item) {
+		super(annotation, field);
 		this.item = item;
 		if (getCount() < 1) {
 			throw new MojetRuntimeException("Iteration must be a positive value");
 		}
+		final Class<?> type = field.getType();
+		getter = MethodHandles.arrayElementGetter(type).asType(MethodType.methodType(Object.class, Object.class, int.class));
+		setter = MethodHandles.arrayElementSetter(type).asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
 	}
 
 	/**
@@ -53,6 +63,115 @@ public class OccurencesNode extends AbstractNode<Occurences> {
 		return annotation.value();
 	}
 
+	/**
+	 * Get the array of the field, allocating (or growing) it when needed
+	 *
+	 * @param bean the instance holding the array field
+	 * @return an array with at least {@link #getCount()} elements
+	 */
+	public Object getOrCreate(final Object bean) {
+		Object result = field.get(bean);
+		if (result == null || Array.getLength(result) < getCount()) {
+			final Object array = Array.newInstance(field.getType().getComponentType(), getCount());
+			if (result != null) {
+				System.arraycopy(result, 0, array, 0, Array.getLength(result));
+			}
+			field.set(bean, array);
+			result = array;
+		}
+		return result;
+	}
+
+	/**
+	 * Get a record element of the array, allocating it when needed
+	 *
+	 * @param array the array instance
+	 * @param index the element index
+	 * @return the record instance
+	 */
+	public Object getOrCreate(final Object array, final int index) {
+		Object result = get(array, index);
+		if (result == null) {
+			result = ((RecordNode) item).newInstance();
+			set(array, index, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Get a getter method handle of the elements of the array
+	 *
+	 * @param type the value type, the component type or Object
+	 * @return a method handle of <code>(Object,int)type</code> type
+	 */
+	public MethodHandle getGetter(final Class<?> type) {
+		return MethodHandles.arrayElementGetter(field.getType()).asType(MethodType.methodType(type, Object.class, int.class));
+	}
+
+	/**
+	 * Get a setter method handle of the elements of the array
+	 *
+	 * @param type the value type, the component type or Object
+	 * @return a method handle of <code>(Object,int,type)void</code> type
+	 */
+	public MethodHandle getSetter(final Class<?> type) {
+		return MethodHandles.arrayElementSetter(field.getType()).asType(MethodType.methodType(void.class, Object.class, int.class, type));
+	}
+
+	/**
+	 * Get a getter method handle of an element of the array
+	 *
+	 * @param index the element index
+	 * @param type  the value type, the component type or Object
+	 * @return a method handle of <code>(Object)type</code> type
+	 */
+	public MethodHandle getGetter(final int index, final Class<?> type) {
+		final MethodHandle result = MethodHandles.arrayElementGetter(field.getType());
+		return MethodHandles.insertArguments(result.asType(MethodType.methodType(type, Object.class, int.class)), 1, index);
+	}
+
+	/**
+	 * Get a setter method handle of an element of the array
+	 *
+	 * @param index the element index
+	 * @param type  the value type, the component type or Object
+	 * @return a method handle of <code>(Object,type)void</code> type
+	 */
+	public MethodHandle getSetter(final int index, final Class<?> type) {
+		final MethodHandle result = MethodHandles.arrayElementSetter(field.getType());
+		return MethodHandles.insertArguments(result.asType(MethodType.methodType(void.class, Object.class, int.class, type)), 1, index);
+	}
+
+	/**
+	 * Read an element of the array
+	 *
+	 * @param array the array instance
+	 * @param index the element index
+	 * @return the element value
+	 */
+	public Object get(final Object array, final int index) {
+		try {
+			return (Object) getter.invokeExact(array, index);
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't read element " + index + " of " + accessor, ex);
+		}
+	}
+
+	/**
+	 * Write an element of the array
+	 *
+	 * @param array the array instance
+	 * @param index the element index
+	 * @param value the element value
+	 */
+	public void set(final Object array, final int index, final Object value) {
+		try {
+			setter.invokeExact(array, index, value);
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't write element " + index + " of " + accessor, ex);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -16,10 +16,14 @@
 package pro.cyberyon.mojet.nodes;
 
 import pro.cyberyon.mojet.Record;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import lombok.Getter;
+import pro.cyberyon.mojet.MojetRuntimeException;
 
 /**
  * Node representing a record set
@@ -28,19 +32,35 @@ import lombok.Getter;
  */
 public class RecordNode extends AbstractNode<Record> {
 
-	private final Set<AbstractNode<?>> nodes = new LinkedHashSet<>();
+	private final Set<AbstractNode<?>> nodes;
 	@Getter
 	private final Class<?> type;
+	private final MethodHandle constructor;
 
 	/**
-	 * Construct a node record
+	 * Construct a root node record
 	 *
-	 * @param accessor field name of accessor
-	 * @param type     class type or record
+	 * @param type class type or record
 	 */
-	public RecordNode(final String accessor, final Class<?> type) {
-		super(type.getAnnotation(Record.class), accessor);
+	public RecordNode(final Class<?> type) {
+		super(type.getAnnotation(Record.class), null);
 		this.type = type;
+		this.nodes = new LinkedHashSet<>();
+		this.constructor = findConstructor(type);
+	}
+
+	/**
+	 * Construct a node record bound to a field, sharing the nodes of a record
+	 * definition
+	 *
+	 * @param field      the field accessor
+	 * @param definition the root node of the record type
+	 */
+	public RecordNode(final FieldAccessor field, final RecordNode definition) {
+		super(definition.annotation, field);
+		this.type = definition.type;
+		this.nodes = definition.nodes;
+		this.constructor = definition.constructor;
 	}
 
 	/**
@@ -62,6 +82,38 @@ public class RecordNode extends AbstractNode<Record> {
 		return Collections.unmodifiableSet(nodes);
 	}
 
+	/**
+	 * Instanciate the record type with its default constructor
+	 *
+	 * @return a new instance
+	 * @throws MojetRuntimeException if the type can't be instanciated
+	 */
+	public Object newInstance() {
+		if (constructor == null) {
+			throw new MojetRuntimeException("No default constructor for " + type.getName());
+		}
+		try {
+			return (Object) constructor.invokeExact();
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't instanciate " + type.getName(), ex);
+		}
+	}
+
+	/**
+	 * Get the value of the record field, allocating the record when needed
+	 *
+	 * @param bean the instance holding the record field
+	 * @return the record instance
+	 */
+	public Object getOrCreate(final Object bean) {
+		Object result = field.get(bean);
+		if (result == null) {
+			result = newInstance();
+			field.set(bean, result);
+		}
+		return result;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -70,4 +122,16 @@ public class RecordNode extends AbstractNode<Record> {
 		visitor.visit(this);
 	}
 
+	private static MethodHandle findConstructor(final Class<?> type) {
+		MethodHandle result = null;
+		try {
+			final var constructor = type.getDeclaredConstructor();
+			constructor.trySetAccessible();
+			result = MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+		} catch (ReflectiveOperationException ex) {
+			// Only required for mapping, checked on instanciation
+		}
+		return result;
+	}
+
 }
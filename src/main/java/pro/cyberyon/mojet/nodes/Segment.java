@@ -0,0 +1,333 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.nodes;
+
+import java.lang.invoke.MethodHandle;
+import lombok.Getter;
+import pro.cyberyon.mojet.MojetRuntimeException;
+import pro.cyberyon.mojet.types.Codec;
+
+/**
+ * A flattened data area of a record, located by its absolute offsets.
+ *
+ * @author Guillaume CHAUVET
+ */
+public final class Segment {
+
+	/**
+	 * The absolute start offset (inclusive)
+	 */
+	@Getter
+	private final int start;
+
+	/**
+	 * The absolute end offset (exclusive)
+	 */
+	@Getter
+	private final int end;
+
+	/**
+	 * The fragment or filler node describing the area
+	 */
+	@Getter
+	private final AbstractNode<?> node;
+
+	/**
+	 * The property path of the value from the root record, empty for fillers
+	 */
+	@Getter
+	private final String path;
+
+	private final AccessPath holder;
+	private final Kind kind;
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+
+	/**
+	 * Construct a filler segment
+	 *
+	 * @param start the absolute start offset
+	 * @param node  the filler node
+	 */
+	Segment(final int start, final ZapNode node) {
+		this.start = start;
+		this.end = start + node.getLength();
+		this.node = node;
+		this.path = "";
+		this.holder = null;
+		this.kind = null;
+		this.getter = null;
+		this.setter = null;
+	}
+
+	/**
+	 * Construct a segment of a record field
+	 *
+	 * @param start  the absolute start offset
+	 * @param node   the fragment node
+	 * @param holder the path to the record holding the field
+	 */
+	Segment(final int start, final FragmentNode node, final AccessPath holder) {
+		this.start = start;
+		this.end = start + node.getLenght();
+		this.node = node;
+		this.path = holder.path(node.getAccessor());
+		this.holder = holder;
+		this.kind = Kind.of(node.getField().getType(), node.getCodec());
+		this.getter = node.getField().getGetter(kind.type);
+		this.setter = node.getField().getSetter(kind.type);
+	}
+
+	/**
+	 * Construct a segment of an array element
+	 *
+	 * @param start      the absolute start offset
+	 * @param node       the fragment node
+	 * @param holder     the path to the record holding the array
+	 * @param occurences the array node
+	 * @param index      the element index
+	 */
+	Segment(final int start, final FragmentNode node, final AccessPath holder, final OccurencesNode occurences, final int index) {
+		this.start = start;
+		this.end = start + node.getLenght();
+		this.node = node;
+		this.path = holder.path(occurences.getAccessor() + "[" + index + "]");
+		this.holder = holder.array(occurences);
+		this.kind = Kind.of(occurences.getField().getType().getComponentType(), node.getCodec());
+		this.getter = occurences.getGetter(index, kind.type);
+		this.setter = occurences.getSetter(index, kind.type);
+	}
+
+	/**
+	 * The area length
+	 *
+	 * @return a strict positive number
+	 */
+	public int getLength() {
+		return end - start;
+	}
+
+	/**
+	 * Flag for filler areas
+	 *
+	 * @return <code>true</code> if the segment is a filler
+	 */
+	public boolean isFiller() {
+		return holder == null;
+	}
+
+	/**
+	 * Flag for primitive fields, read and written without boxing
+	 *
+	 * @return <code>true</code> if the field is primitive
+	 */
+	public boolean isPrimitive() {
+		return kind != null && kind != Kind.OBJECT;
+	}
+
+	/**
+	 * Flag for primitive integral fields written as plain decimal digits, to
+	 * be rendered from {@link #getLong(Object)}
+	 *
+	 * @return <code>true</code> if the field is integral and its codec decimal
+	 */
+	public boolean isDecimal() {
+		return (kind == Kind.INT || kind == Kind.LONG || kind == Kind.SHORT || kind == Kind.BYTE) && ((FragmentNode) node).getCodec() instanceof Codec.Decimal;
+	}
+
+	/**
+	 * Get the value of a primitive integral segment without boxing
+	 *
+	 * @param root the root record instance
+	 * @return the value
+	 */
+	public long getLong(final Object root) {
+		try {
+			final Object target = holder.resolve(root);
+			switch (kind) {
+				case INT:
+					return (int) getter.invokeExact(target);
+				case LONG:
+					return (long) getter.invokeExact(target);
+				case SHORT:
+					return (short) getter.invokeExact(target);
+				case BYTE:
+					return (byte) getter.invokeExact(target);
+				default:
+					throw new MojetRuntimeException("Not an integral field " + path);
+			}
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't read " + path, ex);
+		}
+	}
+
+	/**
+	 * Get the value of the segment, allocating the intermediate instances
+	 *
+	 * @param root the root record instance
+	 * @return the value
+	 */
+	public Object get(final Object root) {
+		try {
+			return getter.invoke(holder.resolve(root));
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't read " + path, ex);
+		}
+	}
+
+	/**
+	 * Set the value of the segment, allocating the intermediate instances
+	 *
+	 * @param root  the root record instance
+	 * @param value the value to set
+	 */
+	public void set(final Object root, final Object value) {
+		try {
+			setter.invoke(holder.resolve(root), value);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't write " + path, ex);
+		}
+	}
+
+	/**
+	 * Decode a range of characters with the fragment codec and set the
+	 * value, primitive fields being set without boxing. Empty ranges and null
+	 * values are not set.
+	 *
+	 * @param root   the root record instance
+	 * @param source the characters holding the data
+	 * @param from   the data start index (inclusive), padding excluded
+	 * @param to     the data end index (exclusive), padding excluded
+	 */
+	public void read(final Object root, final CharSequence source, final int from, final int to) {
+		final Codec<?> codec = ((FragmentNode) node).getCodec();
+		try {
+			if (kind == Kind.OBJECT) {
+				final Object value = codec.read(source, from, to);
+				if (value != null) {
+					setter.invokeExact(holder.resolve(root), value);
+				}
+			} else if (from < to) {
+				switch (kind) {
+					case INT:
+						final int i = ((Codec.OfInt) codec).readInt(source, from, to);
+						setter.invokeExact(holder.resolve(root), i);
+						break;
+					case LONG:
+						final long l = ((Codec.OfLong) codec).readLong(source, from, to);
+						setter.invokeExact(holder.resolve(root), l);
+						break;
+					case SHORT:
+						final short s = ((Codec.OfShort) codec).readShort(source, from, to);
+						setter.invokeExact(holder.resolve(root), s);
+						break;
+					case BYTE:
+						final byte b = ((Codec.OfByte) codec).readByte(source, from, to);
+						setter.invokeExact(holder.resolve(root), b);
+						break;
+					case CHAR:
+						final char c = ((Codec.OfChar) codec).readChar(source, from, to);
+						setter.invokeExact(holder.resolve(root), c);
+						break;
+					case DOUBLE:
+						final double d = ((Codec.OfDouble) codec).readDouble(source, from, to);
+						setter.invokeExact(holder.resolve(root), d);
+						break;
+					case BOOLEAN:
+						final boolean z = ((Codec.OfBoolean) codec).readBoolean(source, from, to);
+						setter.invokeExact(holder.resolve(root), z);
+						break;
+					default:
+						throw new MojetRuntimeException("Undefined case");
+				}
+			}
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't write " + path, ex);
+		}
+	}
+
+	/**
+	 * Encode the value of the segment with the fragment codec, primitive
+	 * fields being read without boxing
+	 *
+	 * @param root the root record instance
+	 * @return the encoded value, not padded
+	 */
+	public String write(final Object root) {
+		final Codec<?> codec = ((FragmentNode) node).getCodec();
+		try {
+			final Object target = holder.resolve(root);
+			switch (kind) {
+				case OBJECT:
+					return ((Codec<Object>) codec).write((Object) getter.invokeExact(target));
+				case INT:
+					return ((Codec.OfInt) codec).writeInt((int) getter.invokeExact(target));
+				case LONG:
+					return ((Codec.OfLong) codec).writeLong((long) getter.invokeExact(target));
+				case SHORT:
+					return ((Codec.OfShort) codec).writeShort((short) getter.invokeExact(target));
+				case BYTE:
+					return ((Codec.OfByte) codec).writeByte((byte) getter.invokeExact(target));
+				case CHAR:
+					return ((Codec.OfChar) codec).writeChar((char) getter.invokeExact(target));
+				case DOUBLE:
+					return ((Codec.OfDouble) codec).writeDouble((double) getter.invokeExact(target));
+				case BOOLEAN:
+					return ((Codec.OfBoolean) codec).writeBoolean((boolean) getter.invokeExact(target));
+				default:
+					throw new MojetRuntimeException("Undefined case");
+			}
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new MojetRuntimeException("Can't read " + path, ex);
+		}
+	}
+
+	/**
+	 * Value access strategy, primitive when both the field and the codec are
+	 * specialized
+	 */
+	private enum Kind {
+		OBJECT(Object.class, Codec.class), INT(int.class, Codec.OfInt.class), LONG(long.class, Codec.OfLong.class), SHORT(short.class, Codec.OfShort.class), BYTE(byte.class, Codec.OfByte.class), CHAR(char.class, Codec.OfChar.class), DOUBLE(double.class, Codec.OfDouble.class), BOOLEAN(boolean.class, Codec.OfBoolean.class);
+
+		private final Class<?> type;
+		private final Class<?> codec;
+
+		Kind(final Class<?> type, final Class<?> codec) {
+			this.type = type;
+			this.codec = codec;
+		}
+
+		private static Kind of(final Class<?> type, final Codec<?> codec) {
+			for (Kind kind : values()) {
+				if (kind.type == type && kind.codec.isInstance(codec)) {
+					return kind;
+				}
+			}
+			return OBJECT;
+		}
+	}
+
+}
@@ -31,7 +31,7 @@ public class ZapNode extends AbstractNode<Zap> {
 	 * @param annotation the filler annotation
 	 */
 	public ZapNode(Zap annotation) {
-		super(annotation, "");
+		super(annotation, null);
 		if (getLength() < 1) {
 			throw new MojetRuntimeException("Lenght must be a positive value");
 		}
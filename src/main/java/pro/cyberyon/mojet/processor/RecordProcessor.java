@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import pro.cyberyon.mojet.CompiledRecord;
+
+/**
+ * Annotation processor generating, for every {@link pro.cyberyon.mojet.Record}
+ * class, a reflection-free {@link CompiledRecord} registered as a service.
+ * Classes that can't be generated (private members without accessors, private
+ * handlers, invalid definitions, too many fragments...) are reported as notes
+ * and left to the runtime engines. The processor is not registered as a service and runs only
+ * when declared explicitly to the compiler.
+ *
+ * @author Guillaume CHAUVET
+ */
+@SupportedAnnotationTypes("pro.cyberyon.mojet.Record")
+public class RecordProcessor extends AbstractProcessor {
+
+	private static final String SERVICES = "META-INF/services/" + CompiledRecord.class.getName();
+
+	private final Set<String> services = new TreeSet<>();
+	private final Set<String> dropped = new HashSet<>();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
+		for (TypeElement type : ElementFilter.typesIn(round.getElementsAnnotatedWith(pro.cyberyon.mojet.Record.class))) {
+			if (type.getKind() == ElementKind.CLASS) {
+				generate(type);
+			}
+		}
+		if (round.processingOver() && !(services.isEmpty() && dropped.isEmpty())) {
+			register();
+		}
+		return false;
+	}
+
+	/**
+	 * Write the services file, merged with the records registered by previous
+	 * compilations that still exist and were not dropped by this one
+	 */
+	private void register() {
+		final Set<String> registered = new TreeSet<>(services);
+		for (String service : registered()) {
+			if (!dropped.contains(service) && processingEnv.getElementUtils().getTypeElement(service) != null) {
+				registered.add(service);
+			}
+		}
+		try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES).openWriter()) {
+			for (String service : registered) {
+				writer.write(service);
+				writer.write('\n');
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to register records: " + ex);
+		}
+	}
+
+	private Set<String> registered() {
+		final Set<String> result = new TreeSet<>();
+		try {
+			final FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+			try (BufferedReader reader = new BufferedReader(resource.openReader(true))) {
+				for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+					final String service = line.trim();
+					if (!service.isEmpty() && !service.startsWith("#")) {
+						result.add(service);
+					}
+				}
+			}
+		} catch (IOException | IllegalArgumentException ex) {
+			// no previous registration
+		}
+		return result;
+	}
+
+	private void generate(final TypeElement type) {
+		final RecordWriter writer = new RecordWriter(processingEnv, type);
+		try {
+			final String source = writer.write();
+			try (Writer output = processingEnv.getFiler().createSourceFile(writer.getName(), type).openWriter()) {
+				output.write(source);
+			}
+			services.add(writer.getName());
+		} catch (UnsupportedRecordException ex) {
+			dropped.add(writer.getName());
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Mojet record not generated: " + ex.getMessage(), type);
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate record: " + ex, type);
+		}
+	}
+
+}
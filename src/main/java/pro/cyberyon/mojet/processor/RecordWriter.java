@@ -0,0 +1,559 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.processor;
+
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import lombok.Getter;
+import pro.cyberyon.mojet.Fragment;
+import pro.cyberyon.mojet.Occurences;
+import pro.cyberyon.mojet.Record;
+import pro.cyberyon.mojet.Transform;
+import pro.cyberyon.mojet.Zap;
+
+/**
+ * Write the source of a compiled record. Mapping and aggregation are emitted
+ * as straight-line code following the same rules as the nodes builder:
+ * declared fields in order, then record fillers. The elements of occurences
+ * are handled by helper methods called in a loop, keeping every generated
+ * method small enough to be JIT compiled.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class RecordWriter {
+
+	private static final String SUFFIX = "_MojetRecord";
+
+	/**
+	 * The largest estimated bytecode size of a generated method, HotSpot never
+	 * compiling methods larger than 8000 bytes
+	 */
+	private static final int METHOD_BUDGET = 8000;
+
+	/**
+	 * The estimated bytecode size of the mapping of a primitive fragment
+	 */
+	private static final int PRIMITIVE_SIZE = 112;
+
+	/**
+	 * The estimated bytecode size of the mapping of an object fragment, a
+	 * nested record or a filler
+	 */
+	private static final int NODE_SIZE = 40;
+
+	private final Elements elements;
+	private final Types types;
+	private final TypeElement type;
+	private final String packageName;
+	@Getter
+	private final String name;
+	private final StringBuilder handlers = new StringBuilder();
+	private final StringBuilder methods = new StringBuilder();
+	private StringBuilder map = new StringBuilder();
+	private StringBuilder aggregate = new StringBuilder();
+	private int offset = 0;
+	private boolean relative = false;
+	private int size = 0;
+	private int handlerCount = 0;
+	private int localCount = 0;
+	private int methodCount = 0;
+
+	/**
+	 * Construct a writer
+	 *
+	 * @param environment the processing environment
+	 * @param type        the record class
+	 */
+	RecordWriter(final ProcessingEnvironment environment, final TypeElement type) {
+		this.elements = environment.getElementUtils();
+		this.types = environment.getTypeUtils();
+		this.type = type;
+		this.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+		final StringBuilder simpleName = new StringBuilder(type.getSimpleName());
+		for (Element parent = type.getEnclosingElement(); parent instanceof TypeElement; parent = parent.getEnclosingElement()) {
+			simpleName.insert(0, '_').insert(0, parent.getSimpleName());
+		}
+		simpleName.append(SUFFIX);
+		this.name = packageName.isEmpty() ? simpleName.toString() : packageName + "." + simpleName;
+	}
+
+	/**
+	 * Write the source of the compiled record
+	 *
+	 * @return the java source
+	 * @throws UnsupportedRecordException if the record can't be generated
+	 */
+	String write() throws UnsupportedRecordException {
+		final String typeName = erasure(type.asType());
+		checkInstanciable(type);
+		map.append("\t\tfinal ").append(typeName).append(" r0 = new ").append(typeName).append("();\n");
+		map.append("\t\tObject v;\n\t\tint f;\n\t\tint t;\n");
+		writeRecord(type, "r0", "item");
+		checkSize();
+		map.append("\t\treturn r0;\n");
+
+		final StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("import org.apache.commons.text.TextStringBuilder;\n");
+		source.append("import pro.cyberyon.mojet.AbstractCompiledRecord;\n");
+		source.append("import pro.cyberyon.mojet.Fragment.PadWay;\n");
+		source.append("import pro.cyberyon.mojet.MojetRuntimeException;\n");
+		source.append("import pro.cyberyon.mojet.types.Codec;\n");
+		source.append("import pro.cyberyon.mojet.types.TypeHandlerFactory;\n\n");
+		source.append("/**\n * Compiled record of {@link ").append(typeName).append("}\n */\n");
+		source.append("@javax.annotation.processing.Generated(\"").append(RecordProcessor.class.getName()).append("\")\n");
+		source.append("public final class ").append(name.substring(name.lastIndexOf('.') + 1)).append(" extends AbstractCompiledRecord<").append(typeName).append("> {\n\n");
+		source.append(handlers).append('\n');
+		source.append("\tpublic ").append(name.substring(name.lastIndexOf('.') + 1)).append("() {\n");
+		source.append("\t\tsuper(").append(typeName).append(".class, ").append(offset).append(");\n\t}\n\n");
+		source.append("\t@Override\n\tpublic ").append(typeName).append(" map(final String line) {\n");
+		source.append(map).append("\t}\n\n");
+		source.append("\t@Override\n\tpublic void aggregate(final ").append(typeName).append(" item, final TextStringBuilder output) {\n");
+		source.append(aggregate).append("\t}\n\n");
+		source.append(methods).append("}\n");
+		return source.toString();
+	}
+
+	private void writeRecord(final TypeElement record, final String mapBean, final String aggregateBean) throws UnsupportedRecordException {
+		for (VariableElement field : ElementFilter.fieldsIn(record.getEnclosedElements())) {
+			writeFillers(field.getAnnotationsByType(Zap.class));
+			final boolean isArray = field.asType().getKind() == TypeKind.ARRAY;
+			if (field.getAnnotation(Record.class) != null) {
+				if (isArray) {
+					writeRecordArray(record, field, mapBean, aggregateBean);
+				} else {
+					writeNestedRecord(record, field, mapBean, aggregateBean);
+				}
+			} else if (field.getAnnotation(Fragment.class) != null) {
+				final String handler = writeHandler(field);
+				if (isArray) {
+					writeFragmentArray(record, field, handler, mapBean, aggregateBean);
+				} else {
+					final Fragment fragment = field.getAnnotation(Fragment.class);
+					final TypeMirror fieldType = field.asType();
+					if (fieldType.getKind().isPrimitive()) {
+						writePrimitive(fragment, handler, fieldType, set(record, field, mapBean, decode(fieldType, handler)), set(record, field, mapBean, "(" + boxed(fieldType) + ") v"), get(record, field, aggregateBean));
+					} else {
+						final String value = read(fragment, handler);
+						map.append("\t\tif ((v = ").append(value).append(") != null) {\n\t\t\t").append(set(record, field, mapBean, "(" + boxed(fieldType) + ") v")).append(";\n\t\t}\n");
+						aggregate.append("\t\t").append(write(fragment, handler, get(record, field, aggregateBean))).append(";\n");
+						size += NODE_SIZE;
+					}
+				}
+			}
+		}
+		writeFillers(record.getAnnotationsByType(Zap.class));
+	}
+
+	private void writeNestedRecord(final TypeElement record, final VariableElement field, final String mapBean, final String aggregateBean) throws UnsupportedRecordException {
+		final TypeElement nested = checkRecord(field.asType());
+		final String typeName = erasure(field.asType());
+		final String mapLocal = "r" + (++localCount);
+		final String aggregateLocal = "r" + (++localCount);
+		writeGetOrCreate(map, typeName, mapLocal, get(record, field, mapBean), set(record, field, mapBean, mapLocal));
+		writeGetOrCreate(aggregate, typeName, aggregateLocal, get(record, field, aggregateBean), set(record, field, aggregateBean, aggregateLocal));
+		size += NODE_SIZE;
+		writeRecord(nested, mapLocal, aggregateLocal);
+	}
+
+	private void writeRecordArray(final TypeElement record, final VariableElement field, final String mapBean, final String aggregateBean) throws UnsupportedRecordException {
+		final TypeMirror component = ((ArrayType) field.asType()).getComponentType();
+		final TypeElement nested = checkRecord(component);
+		final int count = count(field);
+		final String typeName = erasure(component);
+		final String mapArray = writeArray(map, record, field, mapBean, count);
+		final String aggregateArray = writeArray(aggregate, record, field, aggregateBean, count);
+		writeLoop(field.asType(), mapArray, aggregateArray, count, () -> {
+			final String mapLocal = "r" + (++localCount);
+			final String aggregateLocal = "r" + (++localCount);
+			writeGetOrCreate(map, typeName, mapLocal, "a[i]", "a[i] = " + mapLocal);
+			writeGetOrCreate(aggregate, typeName, aggregateLocal, "a[i]", "a[i] = " + aggregateLocal);
+			writeRecord(nested, mapLocal, aggregateLocal);
+		});
+	}
+
+	private void writeFragmentArray(final TypeElement record, final VariableElement field, final String handler, final String mapBean, final String aggregateBean) throws UnsupportedRecordException {
+		final Fragment fragment = field.getAnnotation(Fragment.class);
+		final int count = count(field);
+		final TypeMirror component = ((ArrayType) field.asType()).getComponentType();
+		final String boxed = boxed(component);
+		final String mapArray = writeArray(map, record, field, mapBean, count);
+		final String aggregateArray = writeArray(aggregate, record, field, aggregateBean, count);
+		writeLoop(field.asType(), mapArray, aggregateArray, count, () -> {
+			if (component.getKind().isPrimitive()) {
+				writePrimitive(fragment, handler, component, "a[i] = " + decode(component, handler), "a[i] = (" + boxed + ") v", "a[i]");
+			} else {
+				map.append("\t\tif ((v = ").append(read(fragment, handler)).append(") != null) {\n\t\t\ta[i] = (").append(boxed).append(") v;\n\t\t}\n");
+				aggregate.append("\t\t").append(write(fragment, handler, "a[i]")).append(";\n");
+				size += NODE_SIZE;
+			}
+		});
+	}
+
+	/**
+	 * Write the loop over the elements of an array, the code of an element
+	 * being written in dedicated map and aggregate helper methods taking the
+	 * array <code>a</code>, the element index <code>i</code> and, to map, the
+	 * element offset <code>o</code>
+	 */
+	private void writeLoop(final TypeMirror arrayType, final String mapArray, final String aggregateArray, final int count, final ElementWriter element) throws UnsupportedRecordException {
+		final int index = methodCount++;
+		final String typeName = erasure(arrayType);
+		final StringBuilder oldMap = map;
+		final StringBuilder oldAggregate = aggregate;
+		final int oldOffset = offset;
+		final boolean oldRelative = relative;
+		final int oldSize = size;
+		map = new StringBuilder("\t\tObject v;\n\t\tint f;\n\t\tint t;\n");
+		aggregate = new StringBuilder();
+		offset = 0;
+		relative = true;
+		size = 0;
+		element.write();
+		checkSize();
+		final int length = offset;
+		methods.append("\tprivate static void map").append(index).append("(final String line, final ").append(typeName).append(" a, final int i, final int o) {\n");
+		methods.append(map).append("\t}\n\n");
+		methods.append("\tprivate static void aggregate").append(index).append("(final ").append(typeName).append(" a, final int i, final TextStringBuilder output) {\n");
+		methods.append(aggregate).append("\t}\n\n");
+		map = oldMap;
+		aggregate = oldAggregate;
+		offset = oldOffset;
+		relative = oldRelative;
+		size = oldSize + 2 * NODE_SIZE;
+		final String counter = "k" + index;
+		map.append("\t\tfor (int ").append(counter).append(" = 0; ").append(counter).append(" < ").append(count).append("; ").append(counter).append("++) {\n");
+		map.append("\t\t\tmap").append(index).append("(line, ").append(mapArray).append(", ").append(counter).append(", ").append(position(0)).append(" + ").append(counter).append(" * ").append(length).append(");\n\t\t}\n");
+		aggregate.append("\t\tfor (int ").append(counter).append(" = 0; ").append(counter).append(" < ").append(count).append("; ").append(counter).append("++) {\n");
+		aggregate.append("\t\t\taggregate").append(index).append('(').append(aggregateArray).append(", ").append(counter).append(", output);\n\t\t}\n");
+		offset += length * count;
+	}
+
+	/**
+	 * Get the source of a line position
+	 *
+	 * @param delta the position from the current offset
+	 * @return the constant position, or relative to the element offset in an
+	 *         element helper method
+	 */
+	private String position(final int delta) {
+		final String result;
+		if (!relative) {
+			result = String.valueOf(offset + delta);
+		} else if (offset + delta == 0) {
+			result = "o";
+		} else {
+			result = "o + " + (offset + delta);
+		}
+		return result;
+	}
+
+	private void checkSize() throws UnsupportedRecordException {
+		if (size > METHOD_BUDGET) {
+			throw new UnsupportedRecordException("Too many fragments to generate " + type);
+		}
+	}
+
+	private String writeArray(final StringBuilder output, final TypeElement record, final VariableElement field, final String bean, final int count) throws UnsupportedRecordException {
+		final String typeName = erasure(field.asType());
+		final String local = "a" + (++localCount);
+		output.append("\t\t").append(typeName).append(' ').append(local).append(" = ").append(get(record, field, bean)).append(";\n");
+		output.append("\t\tif (").append(local).append(" == null || ").append(local).append(".length < ").append(count).append(") {\n");
+		output.append("\t\t\t").append(local).append(" = ").append(local).append(" == null ? new ").append(newArray(field.asType(), count)).append(" : java.util.Arrays.copyOf(").append(local).append(", ").append(count).append(");\n");
+		output.append("\t\t\t").append(set(record, field, bean, local)).append(";\n\t\t}\n");
+		return local;
+	}
+
+	private static void writeGetOrCreate(final StringBuilder output, final String typeName, final String local, final String getter, final String setter) {
+		output.append("\t\t").append(typeName).append(' ').append(local).append(" = ").append(getter).append(";\n");
+		output.append("\t\tif (").append(local).append(" == null) {\n");
+		output.append("\t\t\t").append(local).append(" = new ").append(typeName).append("();\n");
+		output.append("\t\t\t").append(setter).append(";\n\t\t}\n");
+	}
+
+	private void writeFillers(final Zap[] fillers) throws UnsupportedRecordException {
+		for (Zap filler : fillers) {
+			if (filler.length() < 1) {
+				throw new UnsupportedRecordException("Lenght must be a positive value");
+			}
+			aggregate.append("\t\toutput.appendPadding(").append(filler.length()).append(", ").append(literal(filler.value())).append(");\n");
+			offset += filler.length();
+			size += NODE_SIZE;
+		}
+	}
+
+	private String writeHandler(final VariableElement field) throws UnsupportedRecordException {
+		final String handler = "H" + (handlerCount++);
+		final String fieldType = erasure(field.asType()) + ".class";
+		handlers.append("\tprivate static final Codec<?> ").append(handler).append(" = codec(");
+		final TypeMirror transform = transform(field);
+		if (transform != null) {
+			final TypeElement element = (TypeElement) types.asElement(transform);
+			if (!isAccessible(element) || element.getModifiers().contains(Modifier.ABSTRACT)) {
+				throw new UnsupportedRecordException("Handler not accessible " + element);
+			}
+			checkInstanciable(element);
+			handlers.append("new ").append(erasure(transform)).append("()");
+		} else {
+			handlers.append("TypeHandlerFactory.getInstance().get(").append(fieldType).append(")");
+		}
+		final Fragment fragment = field.getAnnotation(Fragment.class);
+		handlers.append(", ").append(fieldType).append(", ").append(literal(fragment.format())).append(", ").append(fragment.length()).append(");\n");
+		return handler;
+	}
+
+	/**
+	 * Write the mapping and aggregation of a primitive fragment, decoded and
+	 * encoded without boxing when the bound codec is specialized for its type
+	 */
+	private void writePrimitive(final Fragment fragment, final String handler, final TypeMirror type, final String typedSetter, final String boxedSetter, final String getter) throws UnsupportedRecordException {
+		if (fragment.length() < 1) {
+			throw new UnsupportedRecordException("Lenght must be a positive value");
+		}
+		final String specialized = specialized(type);
+		final String bounds = fragment.length() + ", " + literal(fragment.padder()) + ", PadWay." + fragment.alignement();
+		map.append("\t\ttry {\n");
+		map.append("\t\t\tf = start(line, ").append(position(0)).append(", ").append(bounds).append(");\n");
+		map.append("\t\t\tt = end(line, f, ").append(position(fragment.length())).append(", ").append(literal(fragment.padder())).append(", PadWay.").append(fragment.alignement()).append(");\n");
+		map.append("\t\t\tif (").append(handler).append(" instanceof ").append(specialized).append(") {\n");
+		map.append("\t\t\t\tif (f < t) {\n\t\t\t\t\t").append(typedSetter).append(";\n\t\t\t\t}\n");
+		map.append("\t\t\t} else if ((v = ").append(handler).append(".read(line, f, t)) != null) {\n");
+		map.append("\t\t\t\t").append(boxedSetter).append(";\n\t\t\t}\n");
+		map.append("\t\t} catch (Exception ex) {\n\t\t\tfailure(ex, ").append(fragment.optional()).append(");\n\t\t}\n");
+		offset += fragment.length();
+		size += PRIMITIVE_SIZE;
+
+		final String options = fragment.length() + ", " + literal(fragment.padder()) + ", PadWay." + fragment.alignement() + ", " + fragment.truncable();
+		final TypeKind kind = type.getKind();
+		aggregate.append("\t\t");
+		if (kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.SHORT || kind == TypeKind.BYTE) {
+			aggregate.append("if (").append(handler).append(" instanceof Codec.Decimal && ").append(handler).append(" instanceof ").append(specialized).append(") {\n");
+			aggregate.append("\t\t\twrite(output, ").append(getter).append(", ").append(options).append(");\n\t\t} else ");
+		}
+		aggregate.append("if (").append(handler).append(" instanceof ").append(specialized).append(") {\n");
+		aggregate.append("\t\t\twrite(output, ((").append(specialized).append(") ").append(handler).append(").write").append(suffix(type)).append('(').append(getter).append("), ").append(options).append(");\n");
+		aggregate.append("\t\t} else {\n\t\t\t").append(write(fragment, handler, getter)).append(";\n\t\t}\n");
+	}
+
+	/**
+	 * Writer of the code of an array element
+	 */
+	@FunctionalInterface
+	private interface ElementWriter {
+
+		void write() throws UnsupportedRecordException;
+
+	}
+
+	private static String decode(final TypeMirror type, final String handler) {
+		return "((" + specialized(type) + ") " + handler + ").read" + suffix(type) + "(line, f, t)";
+	}
+
+	private static String specialized(final TypeMirror type) {
+		return "Codec.Of" + suffix(type);
+	}
+
+	private static String suffix(final TypeMirror type) {
+		return capitalize(type.getKind().name().toLowerCase(Locale.ROOT));
+	}
+
+	private String read(final Fragment fragment, final String handler) throws UnsupportedRecordException {
+		if (fragment.length() < 1) {
+			throw new UnsupportedRecordException("Lenght must be a positive value");
+		}
+		final String result = "read(line, " + position(0) + ", " + fragment.length() + ", " + literal(fragment.padder()) + ", PadWay." + fragment.alignement() + ", " + handler + ", " + fragment.optional() + ")";
+		offset += fragment.length();
+		return result;
+	}
+
+	private static String write(final Fragment fragment, final String handler, final String value) {
+		return "write(output, " + value + ", " + handler + ", " + fragment.length() + ", " + literal(fragment.padder()) + ", PadWay." + fragment.alignement() + ", " + fragment.truncable() + ")";
+	}
+
+	private String get(final TypeElement record, final VariableElement field, final String bean) throws UnsupportedRecordException {
+		final String result;
+		if (isAccessible(field)) {
+			result = bean + "." + field.getSimpleName();
+		} else {
+			final String suffix = capitalize(field.getSimpleName().toString());
+			String method = findMethod(record, "get" + suffix, 0);
+			if (method == null && field.asType().getKind() == TypeKind.BOOLEAN) {
+				method = findMethod(record, "is" + suffix, 0);
+			}
+			if (method == null) {
+				throw new UnsupportedRecordException("No getter for " + field.getSimpleName());
+			}
+			result = bean + "." + method + "()";
+		}
+		return result;
+	}
+
+	private String set(final TypeElement record, final VariableElement field, final String bean, final String value) throws UnsupportedRecordException {
+		final String result;
+		if (isAccessible(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+			result = bean + "." + field.getSimpleName() + " = " + value;
+		} else {
+			final String method = findMethod(record, "set" + capitalize(field.getSimpleName().toString()), 1);
+			if (method != null) {
+				result = bean + "." + method + "(" + value + ")";
+			} else if (field.getModifiers().contains(Modifier.FINAL)) {
+				result = "throw new MojetRuntimeException(\"Unable to assign final field " + field.getSimpleName() + "\")";
+			} else {
+				throw new UnsupportedRecordException("No setter for " + field.getSimpleName());
+			}
+		}
+		return result;
+	}
+
+	private String findMethod(final TypeElement record, final String method, final int parameters) {
+		for (ExecutableElement candidate : ElementFilter.methodsIn(elements.getAllMembers(record))) {
+			if (candidate.getSimpleName().contentEquals(method) && candidate.getParameters().size() == parameters && !candidate.getModifiers().contains(Modifier.STATIC) && isAccessible(candidate)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	private TypeElement checkRecord(final TypeMirror mirror) throws UnsupportedRecordException {
+		final Element element = types.asElement(mirror);
+		if (!(element instanceof TypeElement) || element.getAnnotation(Record.class) == null) {
+			throw new UnsupportedRecordException("Record not annoted " + mirror);
+		}
+		checkInstanciable((TypeElement) element);
+		return (TypeElement) element;
+	}
+
+	private void checkInstanciable(final TypeElement element) throws UnsupportedRecordException {
+		if (!isAccessible(element) || element.getModifiers().contains(Modifier.ABSTRACT) || element.getNestingKind().isNested() && !element.getModifiers().contains(Modifier.STATIC)) {
+			throw new UnsupportedRecordException("Type not instanciable " + element);
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && isAccessible(constructor)) {
+				return;
+			}
+		}
+		throw new UnsupportedRecordException("No default constructor for " + element);
+	}
+
+	private int count(final VariableElement field) throws UnsupportedRecordException {
+		final Occurences occurences = field.getAnnotation(Occurences.class);
+		if (occurences == null) {
+			throw new UnsupportedRecordException("Occurences annotation required");
+		} else if (occurences.value() < 1) {
+			throw new UnsupportedRecordException("Iteration must be a positive value");
+		}
+		return occurences.value();
+	}
+
+	private TypeMirror transform(final VariableElement field) {
+		for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+			if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(Transform.class.getName())) {
+				for (var entry : annotation.getElementValues().entrySet()) {
+					if (entry.getKey().getSimpleName().contentEquals("value")) {
+						return (TypeMirror) entry.getValue().getValue();
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check an element can be used from the generated class, in the package of
+	 * the root record
+	 */
+	private boolean isAccessible(final Element element) {
+		final Set<Modifier> modifiers = element.getModifiers();
+		boolean result = !modifiers.contains(Modifier.PRIVATE) && (modifiers.contains(Modifier.PUBLIC) || elements.getPackageOf(element).getQualifiedName().contentEquals(packageName));
+		final Element parent = element.getEnclosingElement();
+		if (result && parent != null && parent.getKind() != ElementKind.PACKAGE) {
+			result = isAccessible(parent);
+		}
+		return result;
+	}
+
+	private String boxed(final TypeMirror mirror) {
+		return mirror.getKind().isPrimitive() ? types.boxedClass(types.getPrimitiveType(mirror.getKind())).getQualifiedName().toString() : erasure(mirror);
+	}
+
+	private String erasure(final TypeMirror mirror) {
+		final TypeMirror erased = types.erasure(mirror);
+		final String result;
+		if (erased.getKind() == TypeKind.DECLARED) {
+			result = ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+		} else if (erased.getKind() == TypeKind.ARRAY) {
+			result = erasure(((ArrayType) erased).getComponentType()) + "[]";
+		} else {
+			result = erased.toString();
+		}
+		return result;
+	}
+
+	private String newArray(final TypeMirror array, final int count) {
+		final String typeName = erasure(array);
+		final int index = typeName.indexOf('[');
+		return typeName.substring(0, index) + "[" + count + "]" + typeName.substring(index + 2);
+	}
+
+	private static String capitalize(final String value) {
+		return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+	}
+
+	private static String literal(final char value) {
+		return "'" + escape(value, '\'') + "'";
+	}
+
+	private static String literal(final String value) {
+		final StringBuilder result = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			result.append(escape(c, '"'));
+		}
+		return result.append('"').toString();
+	}
+
+	private static String escape(final char value, final char quote) {
+		final String result;
+		if (value == quote || value == '\\') {
+			result = "\\" + value;
+		} else if (value < 0x20) {
+			// unicode escapes are translated before lexing, breaking literals of line terminators
+			result = String.format("\\%03o", (int) value);
+		} else if (value > 0x7e) {
+			result = String.format("\\u%04x", (int) value);
+		} else {
+			result = String.valueOf(value);
+		}
+		return result;
+	}
+
+}
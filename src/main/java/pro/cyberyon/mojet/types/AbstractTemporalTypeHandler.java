@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.nio.CharBuffer;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Partial implementation of date and time type handlers, binding fixed
+ * numeric patterns to digit arithmetic codecs and other patterns to a
+ * {@link DateTimeFormatter}.
+ *
+ * @param <T> type of temporal
+ *
+ * @author Guillaume CHAUVET
+ */
+abstract class AbstractTemporalTypeHandler<T extends TemporalAccessor> extends AbstractTypeHandler<T> {
+
+	private final Class<T> type;
+	private final DateTimeFormatter defaultFormatter;
+	private final TemporalQuery<T> query;
+
+	/**
+	 * Construct a temporal type handler
+	 *
+	 * @param type             the temporal class type
+	 * @param defaultFormatter the formatter used without format
+	 * @param query            the query obtaining the temporal
+	 */
+	protected AbstractTemporalTypeHandler(final Class<T> type, final DateTimeFormatter defaultFormatter, final TemporalQuery<T> query) {
+		this.type = type;
+		this.defaultFormatter = defaultFormatter;
+		this.query = query;
+	}
+
+	@Override
+	protected final boolean isAccept(Class<?> type) {
+		return this.type == type;
+	}
+
+	@Override
+	protected final T doRead(String data, String format) {
+		return getFormatter(format).parse(data, query);
+	}
+
+	@Override
+	protected final T doRead(CharSequence source, int start, int end, String format) {
+		return getFormatter(format).parse(CharBuffer.wrap(source, start, end), query);
+	}
+
+	@Override
+	protected final String doWrite(T data, String format) {
+		return getFormatter(format).format(data);
+	}
+
+	@Override
+	public final Codec<T> bind(String format, int length) {
+		final DateTimeFormatter formatter = getFormatter(format);
+		final FixedTemporal fixed = FixedTemporal.of(format);
+		if (fixed != null && isFixed(fixed.getFields())) {
+			return new Codec<>() {
+
+				@Override
+				public T read(CharSequence source, int start, int end) {
+					return start < end ? parse(fixed, source, start, end) : null;
+				}
+
+				@Override
+				public String write(T data) {
+					String result = "";
+					if (data != null) {
+						result = fixed.format(data);
+						if (result == null) {
+							result = formatter.format(data);
+						}
+					}
+					return result;
+				}
+
+			};
+		}
+		return new Codec<>() {
+
+			@Override
+			public T read(CharSequence source, int start, int end) {
+				return start < end ? formatter.parse(CharBuffer.wrap(source, start, end), query) : null;
+			}
+
+			@Override
+			public String write(T data) {
+				return data != null ? formatter.format(data) : "";
+			}
+
+		};
+	}
+
+	/**
+	 * Check the fields of a fixed pattern can be parsed by
+	 * {@link #parse(FixedTemporal, CharSequence, int, int)}
+	 *
+	 * @param fields a combination of {@link FixedTemporal} field flags
+	 * @return <code>true</code> if the fast path can be used
+	 */
+	protected abstract boolean isFixed(int fields);
+
+	/**
+	 * Parse a non empty range with a fixed pattern
+	 *
+	 * @param fixed  the fixed pattern
+	 * @param source the characters holding the data
+	 * @param start  the data start index (inclusive)
+	 * @param end    the data end index (exclusive)
+	 * @return the temporal
+	 */
+	protected abstract T parse(FixedTemporal fixed, CharSequence source, int start, int end);
+
+	private DateTimeFormatter getFormatter(String format) {
+		return StringUtils.isEmpty(format) ? defaultFormatter : DateTimeFormatter.ofPattern(format);
+	}
+
+}
@@ -52,6 +52,15 @@ public abstract class AbstractTypeHandler<T> implements TypeHandler<T> {
 		return result;
 	}
 
+	@Override
+	public final T read(CharSequence source, int start, int end, String format) {
+		T result = null;
+		if (start < end) {
+			result = doRead(source, start, end, format);
+		}
+		return result;
+	}
+
 	@Override
 	public String write(T data, String format) {
 		return data != null ? doWrite(data, format) : "";
@@ -75,6 +84,19 @@ public abstract class AbstractTypeHandler<T> implements TypeHandler<T> {
 	 */
 	protected abstract T doRead(@NonNull String data, String format);
 
+	/**
+	 * Read a non empty range of characters, extracting it by default
+	 *
+	 * @param source the characters holding the data
+	 * @param start  the data start index (inclusive)
+	 * @param end    the data end index (exclusive)
+	 * @param format the optional format
+	 * @return readed content
+	 */
+	protected T doRead(@NonNull CharSequence source, int start, int end, String format) {
+		return doRead(source.subSequence(start, end).toString(), format);
+	}
+
 	/**
 	 * Write a non null data
 	 *
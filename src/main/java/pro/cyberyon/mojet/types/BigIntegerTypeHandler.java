@@ -39,4 +39,9 @@ final class BigIntegerTypeHandler extends AbstractTypeHandler<BigInteger> {
 		return data.toString();
 	}
 
+	@Override
+	public Codec<BigInteger> bind(String format, int length) {
+		return DecimalCodecs.ofBigInteger(this, format);
+	}
+
 }
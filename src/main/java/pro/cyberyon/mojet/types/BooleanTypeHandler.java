@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Boolean data type handler. The format defines the true and false values
+ * separated by a pipe, "1|0" by default.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class BooleanTypeHandler extends AbstractTypeHandler<Boolean> implements TypeHandler.OfBoolean {
+
+	private static final String DEFAULT_FORMAT = "1|0";
+
+	@Override
+	protected boolean isAccept(Class<?> type) {
+		return Boolean.class == type;
+	}
+
+	@Override
+	protected Boolean doRead(String data, String format) {
+		return readBoolean(data, 0, data.length(), format);
+	}
+
+	@Override
+	protected Boolean doRead(CharSequence source, int start, int end, String format) {
+		return readBoolean(source, start, end, format);
+	}
+
+	@Override
+	protected String doWrite(Boolean data, String format) {
+		return writeBoolean(data, format);
+	}
+
+	@Override
+	public boolean readBoolean(CharSequence source, int start, int end, String format) {
+		return new BooleanCodec(format).readBoolean(source, start, end);
+	}
+
+	@Override
+	public String writeBoolean(boolean data, String format) {
+		return new BooleanCodec(format).writeBoolean(data);
+	}
+
+	@Override
+	public Codec.OfBoolean bind(String format, int length) {
+		final BooleanCodec result = new BooleanCodec(format);
+		if (result.yes.length() > length || result.no.length() > length) {
+			throw new IllegalArgumentException("Boolean values longer than " + length + ": " + format);
+		}
+		return result;
+	}
+
+	/**
+	 * Codec of the true and false values of a format
+	 */
+	private static final class BooleanCodec implements Codec.OfBoolean {
+
+		private final String yes;
+		private final String no;
+
+		private BooleanCodec(String format) {
+			final String values = StringUtils.isEmpty(format) ? DEFAULT_FORMAT : format;
+			final int separator = values.indexOf('|');
+			if (separator < 0) {
+				throw new IllegalArgumentException("Boolean format must be \"true|false\": " + format);
+			}
+			yes = values.substring(0, separator);
+			no = values.substring(separator + 1);
+		}
+
+		@Override
+		public boolean readBoolean(CharSequence source, int start, int end) {
+			if (matches(source, start, end, yes)) {
+				return true;
+			} else if (matches(source, start, end, no)) {
+				return false;
+			} else {
+				throw new IllegalArgumentException("Not a boolean value: " + source.subSequence(start, end));
+			}
+		}
+
+		@Override
+		public String writeBoolean(boolean data) {
+			return data ? yes : no;
+		}
+
+		private static boolean matches(CharSequence source, int start, int end, String value) {
+			boolean result = end - start == value.length();
+			for (int i = 0; result && i < value.length(); i++) {
+				result = source.charAt(start + i) == value.charAt(i);
+			}
+			return result;
+		}
+	}
+
+}
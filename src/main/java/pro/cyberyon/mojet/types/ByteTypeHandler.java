@@ -20,7 +20,7 @@ package pro.cyberyon.mojet.types;
  *
  * @author Guillaume CHAUVET
  */
-final class ByteTypeHandler extends AbstractTypeHandler<Byte> {
+final class ByteTypeHandler extends AbstractTypeHandler<Byte> implements TypeHandler.OfByte {
 
 	@Override
 	protected boolean isAccept(Class<?> type) {
@@ -32,9 +32,33 @@ final class ByteTypeHandler extends AbstractTypeHandler<Byte> {
 		return Byte.parseByte(data);
 	}
 
+	@Override
+	protected Byte doRead(CharSequence source, int start, int end, String format) {
+		return readByte(source, start, end, format);
+	}
+
 	@Override
 	protected String doWrite(Byte data, String format) {
+		return writeByte(data, format);
+	}
+
+	@Override
+	public byte readByte(CharSequence source, int start, int end, String format) {
+		final int result = Integer.parseInt(source, start, end, 10);
+		if (result < Byte.MIN_VALUE || result > Byte.MAX_VALUE) {
+			throw new NumberFormatException("Value out of range: " + source.subSequence(start, end));
+		}
+		return (byte) result;
+	}
+
+	@Override
+	public String writeByte(byte data, String format) {
 		return Byte.toString(data);
 	}
 
+	@Override
+	public Codec.OfByte bind(String format, int length) {
+		return DecimalCodecs.ofByte(this, format);
+	}
+
 }
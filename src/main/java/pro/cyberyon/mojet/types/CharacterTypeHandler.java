@@ -20,7 +20,7 @@ package pro.cyberyon.mojet.types;
  *
  * @author Guillaume CHAUVET
  */
-final class CharacterTypeHandler extends AbstractTypeHandler<Character> {
+final class CharacterTypeHandler extends AbstractTypeHandler<Character> implements TypeHandler.OfChar {
 
 	@Override
 	protected boolean isAccept(Class<?> type) {
@@ -32,8 +32,23 @@ final class CharacterTypeHandler extends AbstractTypeHandler<Character> {
 		return data.toCharArray()[0];
 	}
 
+	@Override
+	protected Character doRead(CharSequence source, int start, int end, String format) {
+		return readChar(source, start, end, format);
+	}
+
 	@Override
 	protected String doWrite(Character data, String format) {
+		return writeChar(data, format);
+	}
+
+	@Override
+	public char readChar(CharSequence source, int start, int end, String format) {
+		return source.charAt(start);
+	}
+
+	@Override
+	public String writeChar(char data, String format) {
 		return Character.toString(data);
 	}
 
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+/**
+ * Codec of a fragment, bound once by {@link TypeHandler#bind(String, int)} to
+ * its format and length.
+ *
+ * @param <T> type of field to handle
+ *
+ * @author Guillaume CHAUVET
+ */
+public interface Codec<T> {
+
+	/**
+	 * process a range of characters to a concrete field value
+	 *
+	 * @param source the characters holding the data
+	 * @param start  the data start index (inclusive), padding excluded
+	 * @param end    the data end index (exclusive), padding excluded
+	 * @return instance of the type, or null
+	 */
+	T read(CharSequence source, int start, int end);
+
+	/**
+	 * transform a field value to an output string
+	 *
+	 * @param data the type with data
+	 * @return string content of type
+	 */
+	String write(T data);
+
+	/**
+	 * Marker of the codecs writing integral numbers as plain decimal digits,
+	 * with a leading minus sign when negative, the numbers being rendered
+	 * straight into the output instead of being written to a string
+	 */
+	interface Decimal {
+	}
+
+	/**
+	 * Codec specialized for <code>int</code> fields, avoiding boxing
+	 */
+	interface OfInt extends Codec<Integer> {
+
+		/**
+		 * process a non empty range of characters to a <code>int</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @return the value
+		 */
+		int readInt(CharSequence source, int start, int end);
+
+		/**
+		 * transform a <code>int</code> to an output string
+		 *
+		 * @param data the value
+		 * @return string content of the value
+		 */
+		String writeInt(int data);
+
+		@Override
+		default Integer read(CharSequence source, int start, int end) {
+			return start < end ? readInt(source, start, end) : null;
+		}
+
+		@Override
+		default String write(Integer data) {
+			return data != null ? writeInt(data) : "";
+		}
+
+	}
+
+	/**
+	 * Codec specialized for <code>long</code> fields, avoiding boxing
+	 */
+	interface OfLong extends Codec<Long> {
+
+		/**
+		 * process a non empty range of characters to a <code>long</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @return the value
+		 */
+		long readLong(CharSequence source, int start, int end);
+
+		/**
+		 * transform a <code>long</code> to an output string
+		 *
+		 * @param data the value
+		 * @return string content of the value
+		 */
+		String writeLong(long data);
+
+		@Override
+		default Long read(CharSequence source, int start, int end) {
+			return start < end ? readLong(source, start, end) : null;
+		}
+
+		@Override
+		default String write(Long data) {
+			return data != null ? writeLong(data) : "";
+		}
+
+	}
+
+	/**
+	 * Codec specialized for <code>short</code> fields, avoiding boxing
+	 */
+	interface OfShort extends Codec<Short> {
+
+		/**
+		 * process a non empty range of characters to a <code>short</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @return the value
+		 */
+		short readShort(CharSequence source, int start, int end);
+
+		/**
+		 * transform a <code>short</code> to an output string
+		 *
+		 * @param data the value
+		 * @return string content of the value
+		 */
+		String writeShort(short data);
+
+		@Override
+		default Short read(CharSequence source, int start, int end) {
+			return start < end ? readShort(source, start, end) : null;
+		}
+
+		@Override
+		default String write(Short data) {
+			return data != null ? writeShort(data) : "";
+		}
+
+	}
+
+	/**
+	 * Codec specialized for <code>byte</code> fields, avoiding boxing
+	 */
+	interface OfByte extends Codec<Byte> {
+
+		/**
+		 * process a non empty range of characters to a <code>byte</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @return the value
+		 */
+		byte readByte(CharSequence source, int start, int end);
+
+		/**
+		 * transform a <code>byte</code> to an output string
+		 *
+		 * @param data the value
+		 * @return string content of the value
+		 */
+		String writeByte(byte data);
+
+		@Override
+		default Byte read(CharSequence source, int start, int end) {
+			return start < end ? readByte(source, start, end) : null;
+		}
+
+		@Override
+		default String write(Byte data) {
+			return data != null ? writeByte(data) : "";
+		}
+
+	}
+
+	/**
+	 * Codec specialized for <code>char</code> fields, avoiding boxing
+	 */
+	interface OfChar extends Codec<Character> {
+
+		/**
+		 * process a non empty range of characters to a <code>char</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @return the value
+		 */
+		char readChar(CharSequence source, int start, int end);
+
+		/**
+		 * transform a <code>char</code> to an output string
+		 *
+		 * @param data the value
+		 * @return string content of the value
+		 */
+		String writeChar(char data);
+
+		@Override
+		default Character read(CharSequence source, int start, int end) {
+			return start < end ? readChar(source, start, end) : null;
+		}
+
+		@Override
+		default String write(Character data) {
+			return data != null ? writeChar(data) : "";
+		}
+
+	}
+
+	/**
+	 * Codec specialized for <code>double</code> fields, avoiding boxing
+	 */
+	interface OfDouble extends Codec<Double> {
+
+		/**
+		 * process a non empty range of characters to a <code>double</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @return the value
+		 */
+		double readDouble(CharSequence source, int start, int end);
+
+		/**
+		 * transform a <code>double</code> to an output string
+		 *
+		 * @param data the value
+		 * @return string content of the value
+		 */
+		String writeDouble(double data);
+
+		@Override
+		default Double read(CharSequence source, int start, int end) {
+			return start < end ? readDouble(source, start, end) : null;
+		}
+
+		@Override
+		default String write(Double data) {
+			return data != null ? writeDouble(data) : "";
+		}
+
+	}
+
+	/**
+	 * Codec specialized for <code>boolean</code> fields, avoiding boxing
+	 */
+	interface OfBoolean extends Codec<Boolean> {
+
+		/**
+		 * process a non empty range of characters to a <code>boolean</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @return the value
+		 */
+		boolean readBoolean(CharSequence source, int start, int end);
+
+		/**
+		 * transform a <code>boolean</code> to an output string
+		 *
+		 * @param data the value
+		 * @return string content of the value
+		 */
+		String writeBoolean(boolean data);
+
+		@Override
+		default Boolean read(CharSequence source, int start, int end) {
+			return start < end ? readBoolean(source, start, end) : null;
+		}
+
+		@Override
+		default String write(Boolean data) {
+			return data != null ? writeBoolean(data) : "";
+		}
+
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.math.BigInteger;
+
+/**
+ * Codecs of the integral handlers, marked as writing plain decimal digits.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class DecimalCodecs {
+
+	private DecimalCodecs() {
+	}
+
+	/**
+	 * Bind an int handler writing plain decimal digits
+	 *
+	 * @param handler the handler
+	 * @param format  the fragment format
+	 * @return the decimal codec
+	 */
+	static Codec.OfInt ofInt(final TypeHandler.OfInt handler, final String format) {
+		return new OfInt(handler, format);
+	}
+
+	/**
+	 * Bind a long handler writing plain decimal digits
+	 *
+	 * @param handler the handler
+	 * @param format  the fragment format
+	 * @return the decimal codec
+	 */
+	static Codec.OfLong ofLong(final TypeHandler.OfLong handler, final String format) {
+		return new OfLong(handler, format);
+	}
+
+	/**
+	 * Bind a short handler writing plain decimal digits
+	 *
+	 * @param handler the handler
+	 * @param format  the fragment format
+	 * @return the decimal codec
+	 */
+	static Codec.OfShort ofShort(final TypeHandler.OfShort handler, final String format) {
+		return new OfShort(handler, format);
+	}
+
+	/**
+	 * Bind a byte handler writing plain decimal digits
+	 *
+	 * @param handler the handler
+	 * @param format  the fragment format
+	 * @return the decimal codec
+	 */
+	static Codec.OfByte ofByte(final TypeHandler.OfByte handler, final String format) {
+		return new OfByte(handler, format);
+	}
+
+	/**
+	 * Bind a big integer handler writing plain decimal digits
+	 *
+	 * @param handler the handler
+	 * @param format  the fragment format
+	 * @return the decimal codec
+	 */
+	static Codec<BigInteger> ofBigInteger(final TypeHandler<BigInteger> handler, final String format) {
+		return new OfBigInteger(handler, format);
+	}
+
+	private static final class OfInt implements Codec.OfInt, Codec.Decimal {
+
+		private final TypeHandler.OfInt handler;
+		private final String format;
+
+		private OfInt(final TypeHandler.OfInt handler, final String format) {
+			this.handler = handler;
+			this.format = format;
+		}
+
+		@Override
+		public int readInt(final CharSequence source, final int start, final int end) {
+			return handler.readInt(source, start, end, format);
+		}
+
+		@Override
+		public String writeInt(final int data) {
+			return handler.writeInt(data, format);
+		}
+
+	}
+
+	private static final class OfLong implements Codec.OfLong, Codec.Decimal {
+
+		private final TypeHandler.OfLong handler;
+		private final String format;
+
+		private OfLong(final TypeHandler.OfLong handler, final String format) {
+			this.handler = handler;
+			this.format = format;
+		}
+
+		@Override
+		public long readLong(final CharSequence source, final int start, final int end) {
+			return handler.readLong(source, start, end, format);
+		}
+
+		@Override
+		public String writeLong(final long data) {
+			return handler.writeLong(data, format);
+		}
+
+	}
+
+	private static final class OfShort implements Codec.OfShort, Codec.Decimal {
+
+		private final TypeHandler.OfShort handler;
+		private final String format;
+
+		private OfShort(final TypeHandler.OfShort handler, final String format) {
+			this.handler = handler;
+			this.format = format;
+		}
+
+		@Override
+		public short readShort(final CharSequence source, final int start, final int end) {
+			return handler.readShort(source, start, end, format);
+		}
+
+		@Override
+		public String writeShort(final short data) {
+			return handler.writeShort(data, format);
+		}
+
+	}
+
+	private static final class OfByte implements Codec.OfByte, Codec.Decimal {
+
+		private final TypeHandler.OfByte handler;
+		private final String format;
+
+		private OfByte(final TypeHandler.OfByte handler, final String format) {
+			this.handler = handler;
+			this.format = format;
+		}
+
+		@Override
+		public byte readByte(final CharSequence source, final int start, final int end) {
+			return handler.readByte(source, start, end, format);
+		}
+
+		@Override
+		public String writeByte(final byte data) {
+			return handler.writeByte(data, format);
+		}
+
+	}
+
+	private static final class OfBigInteger implements Codec<BigInteger>, Codec.Decimal {
+
+		private final TypeHandler<BigInteger> handler;
+		private final String format;
+
+		private OfBigInteger(final TypeHandler<BigInteger> handler, final String format) {
+			this.handler = handler;
+			this.format = format;
+		}
+
+		@Override
+		public BigInteger read(final CharSequence source, final int start, final int end) {
+			return handler.read(source, start, end, format);
+		}
+
+		@Override
+		public String write(final BigInteger data) {
+			return handler.write(data, format);
+		}
+
+	}
+
+}
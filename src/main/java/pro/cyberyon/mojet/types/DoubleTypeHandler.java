@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+/**
+ * Double data type handler
+ *
+ * @author Guillaume CHAUVET
+ */
+final class DoubleTypeHandler extends AbstractTypeHandler<Double> implements TypeHandler.OfDouble {
+
+	@Override
+	protected boolean isAccept(Class<?> type) {
+		return Double.class == type;
+	}
+
+	@Override
+	protected Double doRead(String data, String format) {
+		return Double.valueOf(data);
+	}
+
+	@Override
+	protected Double doRead(CharSequence source, int start, int end, String format) {
+		return readDouble(source, start, end, format);
+	}
+
+	@Override
+	protected String doWrite(Double data, String format) {
+		return writeDouble(data, format);
+	}
+
+	@Override
+	public double readDouble(CharSequence source, int start, int end, String format) {
+		return Double.parseDouble(source.subSequence(start, end).toString());
+	}
+
+	@Override
+	public String writeDouble(double data, String format) {
+		return Double.toString(data);
+	}
+
+}
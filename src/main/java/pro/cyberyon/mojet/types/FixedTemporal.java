@@ -0,0 +1,283 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Fixed width numeric date and time pattern (such as yyyyMMdd, yyMMdd,
+ * ddMMyyyy or HHmmss), parsed and printed with digit arithmetic. Validation
+ * follows the smart resolver of the equivalent {@link java.time.format.DateTimeFormatter}.
+ *
+ * @author Guillaume CHAUVET
+ */
+final class FixedTemporal {
+
+	static final int YEAR = 1;
+	static final int MONTH = 2;
+	static final int DAY = 4;
+	static final int HOUR = 8;
+	static final int MINUTE = 16;
+	static final int SECOND = 32;
+
+	private final char[] template;
+	private final int fields;
+	private final boolean yearOfEra;
+	private final int yearWidth;
+	private final int year;
+	private final int month;
+	private final int day;
+	private final int hour;
+	private final int minute;
+	private final int second;
+
+	private FixedTemporal(final char[] template, final int[] offsets, final int fields, final boolean yearOfEra, final int yearWidth) {
+		this.template = template;
+		this.fields = fields;
+		this.yearOfEra = yearOfEra;
+		this.yearWidth = yearWidth;
+		this.year = offsets[0];
+		this.month = offsets[1];
+		this.day = offsets[2];
+		this.hour = offsets[3];
+		this.minute = offsets[4];
+		this.second = offsets[5];
+	}
+
+	/**
+	 * Compile a pattern made of 4 or 2 digits years (y or u), 2 digits months,
+	 * days, hours, minutes and seconds, and unquoted non letter literals
+	 *
+	 * @param pattern the pattern
+	 * @return the fixed pattern, or null if the pattern is not supported
+	 */
+	static FixedTemporal of(final String pattern) {
+		if (StringUtils.isEmpty(pattern)) {
+			return null;
+		}
+		final char[] template = new char[pattern.length()];
+		final int[] offsets = {-1, -1, -1, -1, -1, -1};
+		int fields = 0;
+		boolean yearOfEra = false;
+		int yearWidth = 0;
+		int i = 0;
+		while (i < pattern.length()) {
+			final char letter = pattern.charAt(i);
+			int width = 1;
+			while (i + width < pattern.length() && pattern.charAt(i + width) == letter) {
+				width++;
+			}
+			final int field = field(letter, width);
+			if (field < 0) {
+				return null;
+			} else if (field == 0) {
+				template[i] = letter;
+				width = 1;
+			} else if ((fields & field) != 0) {
+				return null;
+			} else {
+				fields |= field;
+				offsets[Integer.numberOfTrailingZeros(field)] = i;
+				if (field == YEAR) {
+					yearOfEra = letter == 'y';
+					yearWidth = width;
+				}
+				for (int j = i; j < i + width; j++) {
+					template[j] = '0';
+				}
+			}
+			i += width;
+		}
+		return new FixedTemporal(template, offsets, fields, yearOfEra, yearWidth);
+	}
+
+	/**
+	 * The fields of the pattern
+	 *
+	 * @return a combination of field flags
+	 */
+	int getFields() {
+		return fields;
+	}
+
+	LocalDate toLocalDate(final CharSequence source, final int start, final int end) {
+		check(source, start, end);
+		final int y = year(source, start);
+		final int m = value(source, start, month, 1, 12);
+		return LocalDate.of(y, m, Math.min(value(source, start, day, 1, 31), YearMonth.of(y, m).lengthOfMonth()));
+	}
+
+	YearMonth toYearMonth(final CharSequence source, final int start, final int end) {
+		check(source, start, end);
+		return YearMonth.of(year(source, start), value(source, start, month, 1, 12));
+	}
+
+	LocalTime toLocalTime(final CharSequence source, final int start, final int end) {
+		check(source, start, end);
+		final int h = value(source, start, hour, 0, 24);
+		final int m = value(source, start, minute, 0, 59);
+		final int s = second < 0 ? 0 : value(source, start, second, 0, 59);
+		if (h == 24) {
+			endOfDay(source, start, end, m, s);
+			return LocalTime.MIDNIGHT;
+		}
+		return LocalTime.of(h, m, s);
+	}
+
+	LocalDateTime toLocalDateTime(final CharSequence source, final int start, final int end) {
+		final LocalDate date = toLocalDate(source, start, end);
+		final int h = value(source, start, hour, 0, 24);
+		final int m = value(source, start, minute, 0, 59);
+		final int s = second < 0 ? 0 : value(source, start, second, 0, 59);
+		if (h == 24) {
+			endOfDay(source, start, end, m, s);
+			return date.plusDays(1).atStartOfDay();
+		}
+		return LocalDateTime.of(date, LocalTime.of(h, m, s));
+	}
+
+	/**
+	 * Print a temporal value
+	 *
+	 * @param value the value, supporting every field of the pattern
+	 * @return the printed value, or null if the year can't be printed on the
+	 *         pattern width
+	 */
+	String format(final TemporalAccessor value) {
+		final char[] result = template.clone();
+		if (year >= 0) {
+			int y = value.get(ChronoField.YEAR);
+			if (yearOfEra) {
+				if (y < 1) {
+					return null;
+				}
+			} else if (y < 0) {
+				return null;
+			}
+			if (yearWidth == 2) {
+				y = y % 100;
+			} else if (y > 9999) {
+				return null;
+			}
+			put(result, year, yearWidth, y);
+		}
+		if (month >= 0) {
+			put(result, month, 2, value.get(ChronoField.MONTH_OF_YEAR));
+		}
+		if (day >= 0) {
+			put(result, day, 2, value.get(ChronoField.DAY_OF_MONTH));
+		}
+		if (hour >= 0) {
+			put(result, hour, 2, value.get(ChronoField.HOUR_OF_DAY));
+		}
+		if (minute >= 0) {
+			put(result, minute, 2, value.get(ChronoField.MINUTE_OF_HOUR));
+		}
+		if (second >= 0) {
+			put(result, second, 2, value.get(ChronoField.SECOND_OF_MINUTE));
+		}
+		return new String(result);
+	}
+
+	private static int field(final char letter, final int width) {
+		final int result;
+		if (letter == 'y' || letter == 'u') {
+			result = width == 2 || width == 4 ? YEAR : -1;
+		} else if (letter == 'M') {
+			result = width == 2 ? MONTH : -1;
+		} else if (letter == 'd') {
+			result = width == 2 ? DAY : -1;
+		} else if (letter == 'H') {
+			result = width == 2 ? HOUR : -1;
+		} else if (letter == 'm') {
+			result = width == 2 ? MINUTE : -1;
+		} else if (letter == 's') {
+			result = width == 2 ? SECOND : -1;
+		} else if (Character.isLetterOrDigit(letter) || "'[]{}#".indexOf(letter) >= 0) {
+			result = -1;
+		} else {
+			result = 0;
+		}
+		return result;
+	}
+
+	private void check(final CharSequence source, final int start, final int end) {
+		if (end - start != template.length) {
+			throw error(source, start, end, Math.min(end - start, template.length), null);
+		}
+		for (int i = 0; i < template.length; i++) {
+			final char c = source.charAt(start + i);
+			if (template[i] == '0' ? c < '0' || c > '9' : c != template[i]) {
+				throw error(source, start, end, i, null);
+			}
+		}
+	}
+
+	private int year(final CharSequence source, final int start) {
+		final int result = digits(source, start + year, yearWidth);
+		if (yearWidth == 2) {
+			return 2000 + result;
+		} else if (yearOfEra && result == 0) {
+			throw error(source, start, start + template.length, -1, "Invalid value for YearOfEra: 0");
+		}
+		return result;
+	}
+
+	private int value(final CharSequence source, final int start, final int offset, final int min, final int max) {
+		final int result = digits(source, start + offset, 2);
+		if (result < min || result > max) {
+			throw error(source, start, start + template.length, -1, "Invalid value: " + result);
+		}
+		return result;
+	}
+
+	private void endOfDay(final CharSequence source, final int start, final int end, final int minutes, final int seconds) {
+		if (minutes != 0 || seconds != 0) {
+			throw error(source, start, end, -1, "Invalid value for HourOfDay: 24");
+		}
+	}
+
+	private static int digits(final CharSequence source, final int offset, final int width) {
+		int result = 0;
+		for (int i = offset; i < offset + width; i++) {
+			result = result * 10 + source.charAt(i) - '0';
+		}
+		return result;
+	}
+
+	private static void put(final char[] target, final int offset, final int width, final int value) {
+		int remaining = value;
+		for (int i = offset + width - 1; i >= offset; i--) {
+			target[i] = (char) ('0' + remaining % 10);
+			remaining /= 10;
+		}
+	}
+
+	private static DateTimeException error(final CharSequence source, final int start, final int end, final int index, final String cause) {
+		final String text = source.subSequence(start, end).toString();
+		final String message = "Text '" + text + "' could not be parsed" + (cause == null ? " at index " + index : ": " + cause);
+		return new DateTimeParseException(message, text, Math.max(index, 0));
+	}
+
+}
@@ -20,7 +20,7 @@ package pro.cyberyon.mojet.types;
  *
  * @author Guillaume CHAUVET
  */
-final class IntegerTypeHandler extends AbstractTypeHandler<Integer> {
+final class IntegerTypeHandler extends AbstractTypeHandler<Integer> implements TypeHandler.OfInt {
 
 	@Override
 	protected boolean isAccept(Class<?> type) {
@@ -32,9 +32,29 @@ final class IntegerTypeHandler extends AbstractTypeHandler<Integer> {
 		return Integer.valueOf(data);
 	}
 
+	@Override
+	protected Integer doRead(CharSequence source, int start, int end, String format) {
+		return readInt(source, start, end, format);
+	}
+
 	@Override
 	protected String doWrite(Integer data, String format) {
+		return writeInt(data, format);
+	}
+
+	@Override
+	public int readInt(CharSequence source, int start, int end, String format) {
+		return Integer.parseInt(source, start, end, 10);
+	}
+
+	@Override
+	public String writeInt(int data, String format) {
 		return Integer.toString(data);
 	}
 
+	@Override
+	public Codec.OfInt bind(String format, int length) {
+		return DecimalCodecs.ofInt(this, format);
+	}
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * local date time data type handler
+ *
+ * @author Guillaume CHAUVET
+ */
+final class LocalDateTimeTypeHandler extends AbstractTemporalTypeHandler<LocalDateTime> {
+
+	/**
+	 * Construct the handler
+	 */
+	LocalDateTimeTypeHandler() {
+		super(LocalDateTime.class, DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+	}
+
+	@Override
+	protected boolean isFixed(int fields) {
+		return (fields | FixedTemporal.SECOND) == (FixedTemporal.YEAR | FixedTemporal.MONTH | FixedTemporal.DAY | FixedTemporal.HOUR | FixedTemporal.MINUTE | FixedTemporal.SECOND);
+	}
+
+	@Override
+	protected LocalDateTime parse(FixedTemporal fixed, CharSequence source, int start, int end) {
+		return fixed.toLocalDateTime(source, start, end);
+	}
+
+}
@@ -17,32 +17,29 @@ package pro.cyberyon.mojet.types;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * local date data type handler
  *
  * @author Guillaume CHAUVET
  */
-final class LocalDateTypeHandler extends AbstractTypeHandler<LocalDate> {
+final class LocalDateTypeHandler extends AbstractTemporalTypeHandler<LocalDate> {
 
-	@Override
-	protected boolean isAccept(Class<?> type) {
-		return LocalDate.class == type;
+	/**
+	 * Construct the handler
+	 */
+	LocalDateTypeHandler() {
+		super(LocalDate.class, DateTimeFormatter.ISO_DATE, LocalDate::from);
 	}
 
 	@Override
-	protected LocalDate doRead(String data, String format) {
-		return LocalDate.parse(data, getFormatter(format));
+	protected boolean isFixed(int fields) {
+		return fields == (FixedTemporal.YEAR | FixedTemporal.MONTH | FixedTemporal.DAY);
 	}
 
 	@Override
-	protected String doWrite(LocalDate data, String format) {
-		return getFormatter(format).format(data);
-	}
-
-	private static DateTimeFormatter getFormatter(String format) {
-		return StringUtils.isEmpty(format) ? DateTimeFormatter.ISO_DATE : DateTimeFormatter.ofPattern(format);
+	protected LocalDate parse(FixedTemporal fixed, CharSequence source, int start, int end) {
+		return fixed.toLocalDate(source, start, end);
 	}
 
 }
@@ -20,7 +20,7 @@ package pro.cyberyon.mojet.types;
  *
  * @author Guillaume CHAUVET
  */
-final class LongTypeHandler extends AbstractTypeHandler<Long> {
+final class LongTypeHandler extends AbstractTypeHandler<Long> implements TypeHandler.OfLong {
 
 	@Override
 	protected boolean isAccept(Class<?> type) {
@@ -32,9 +32,29 @@ final class LongTypeHandler extends AbstractTypeHandler<Long> {
 		return Long.valueOf(data);
 	}
 
+	@Override
+	protected Long doRead(CharSequence source, int start, int end, String format) {
+		return readLong(source, start, end, format);
+	}
+
 	@Override
 	protected String doWrite(Long data, String format) {
+		return writeLong(data, format);
+	}
+
+	@Override
+	public long readLong(CharSequence source, int start, int end, String format) {
+		return Long.parseLong(source, start, end, 10);
+	}
+
+	@Override
+	public String writeLong(long data, String format) {
 		return Long.toString(data);
 	}
 
+	@Override
+	public Codec.OfLong bind(String format, int length) {
+		return DecimalCodecs.ofLong(this, format);
+	}
+
 }
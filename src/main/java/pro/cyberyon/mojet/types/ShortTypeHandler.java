@@ -20,7 +20,7 @@ package pro.cyberyon.mojet.types;
  *
  * @author Guillaume CHAUVET
  */
-final class ShortTypeHandler extends AbstractTypeHandler<Short> {
+final class ShortTypeHandler extends AbstractTypeHandler<Short> implements TypeHandler.OfShort {
 
 	@Override
 	protected boolean isAccept(Class<?> type) {
@@ -32,9 +32,33 @@ final class ShortTypeHandler extends AbstractTypeHandler<Short> {
 		return Short.valueOf(data);
 	}
 
+	@Override
+	protected Short doRead(CharSequence source, int start, int end, String format) {
+		return readShort(source, start, end, format);
+	}
+
 	@Override
 	protected String doWrite(Short data, String format) {
+		return writeShort(data, format);
+	}
+
+	@Override
+	public short readShort(CharSequence source, int start, int end, String format) {
+		final int result = Integer.parseInt(source, start, end, 10);
+		if (result < Short.MIN_VALUE || result > Short.MAX_VALUE) {
+			throw new NumberFormatException("Value out of range: " + source.subSequence(start, end));
+		}
+		return (short) result;
+	}
+
+	@Override
+	public String writeShort(short data, String format) {
 		return Short.toString(data);
 	}
 
+	@Override
+	public Codec.OfShort bind(String format, int length) {
+		return DecimalCodecs.ofShort(this, format);
+	}
+
 }
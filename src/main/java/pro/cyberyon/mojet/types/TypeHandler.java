@@ -41,6 +41,45 @@ public interface TypeHandler<T> {
 	 */
 	T read(String data, String format);
 
+	/**
+	 * process a range of characters to a concrete field value, without
+	 * extracting it when the handler allows it
+	 *
+	 * @param source the characters holding the data
+	 * @param start  the data start index (inclusive), padding excluded
+	 * @param end    the data end index (exclusive), padding excluded
+	 * @param format of data, null otherwise
+	 * @return instance of the type
+	 */
+	default T read(CharSequence source, int start, int end, String format) {
+		return read(source.subSequence(start, end).toString(), format);
+	}
+
+	/**
+	 * Bind the handler to a fragment format and length. Formats are expected
+	 * to be compiled and checked here, once per fragment.
+	 *
+	 * @param format of data, null otherwise
+	 * @param length the fragment length
+	 * @return the bound codec
+	 * @throws IllegalArgumentException if the format is invalid
+	 */
+	default Codec<T> bind(String format, int length) {
+		return new Codec<>() {
+
+			@Override
+			public T read(CharSequence source, int start, int end) {
+				return TypeHandler.this.read(source, start, end, format);
+			}
+
+			@Override
+			public String write(T data) {
+				return TypeHandler.this.write(data, format);
+			}
+
+		};
+	}
+
 	/**
 	 * transform a field value to an output string
 	 *
@@ -50,4 +89,312 @@ public interface TypeHandler<T> {
 	 */
 	String write(T data, String format);
 
+	/**
+	 * Type handler specialized for <code>int</code> fields, avoiding boxing
+	 */
+	interface OfInt extends TypeHandler<Integer> {
+
+		/**
+		 * process a non empty range of characters to a <code>int</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @param format of data, null otherwise
+		 * @return the value
+		 */
+		int readInt(CharSequence source, int start, int end, String format);
+
+		/**
+		 * transform a <code>int</code> to an output string
+		 *
+		 * @param data   the value
+		 * @param format of data, null otherwise
+		 * @return string content of the value
+		 */
+		String writeInt(int data, String format);
+
+		@Override
+		default Codec.OfInt bind(String format, int length) {
+			return new Codec.OfInt() {
+
+				@Override
+				public int readInt(CharSequence source, int start, int end) {
+					return TypeHandler.OfInt.this.readInt(source, start, end, format);
+				}
+
+				@Override
+				public String writeInt(int data) {
+					return TypeHandler.OfInt.this.writeInt(data, format);
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * Type handler specialized for <code>long</code> fields, avoiding boxing
+	 */
+	interface OfLong extends TypeHandler<Long> {
+
+		/**
+		 * process a non empty range of characters to a <code>long</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @param format of data, null otherwise
+		 * @return the value
+		 */
+		long readLong(CharSequence source, int start, int end, String format);
+
+		/**
+		 * transform a <code>long</code> to an output string
+		 *
+		 * @param data   the value
+		 * @param format of data, null otherwise
+		 * @return string content of the value
+		 */
+		String writeLong(long data, String format);
+
+		@Override
+		default Codec.OfLong bind(String format, int length) {
+			return new Codec.OfLong() {
+
+				@Override
+				public long readLong(CharSequence source, int start, int end) {
+					return TypeHandler.OfLong.this.readLong(source, start, end, format);
+				}
+
+				@Override
+				public String writeLong(long data) {
+					return TypeHandler.OfLong.this.writeLong(data, format);
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * Type handler specialized for <code>short</code> fields, avoiding boxing
+	 */
+	interface OfShort extends TypeHandler<Short> {
+
+		/**
+		 * process a non empty range of characters to a <code>short</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @param format of data, null otherwise
+		 * @return the value
+		 */
+		short readShort(CharSequence source, int start, int end, String format);
+
+		/**
+		 * transform a <code>short</code> to an output string
+		 *
+		 * @param data   the value
+		 * @param format of data, null otherwise
+		 * @return string content of the value
+		 */
+		String writeShort(short data, String format);
+
+		@Override
+		default Codec.OfShort bind(String format, int length) {
+			return new Codec.OfShort() {
+
+				@Override
+				public short readShort(CharSequence source, int start, int end) {
+					return TypeHandler.OfShort.this.readShort(source, start, end, format);
+				}
+
+				@Override
+				public String writeShort(short data) {
+					return TypeHandler.OfShort.this.writeShort(data, format);
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * Type handler specialized for <code>byte</code> fields, avoiding boxing
+	 */
+	interface OfByte extends TypeHandler<Byte> {
+
+		/**
+		 * process a non empty range of characters to a <code>byte</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @param format of data, null otherwise
+		 * @return the value
+		 */
+		byte readByte(CharSequence source, int start, int end, String format);
+
+		/**
+		 * transform a <code>byte</code> to an output string
+		 *
+		 * @param data   the value
+		 * @param format of data, null otherwise
+		 * @return string content of the value
+		 */
+		String writeByte(byte data, String format);
+
+		@Override
+		default Codec.OfByte bind(String format, int length) {
+			return new Codec.OfByte() {
+
+				@Override
+				public byte readByte(CharSequence source, int start, int end) {
+					return TypeHandler.OfByte.this.readByte(source, start, end, format);
+				}
+
+				@Override
+				public String writeByte(byte data) {
+					return TypeHandler.OfByte.this.writeByte(data, format);
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * Type handler specialized for <code>char</code> fields, avoiding boxing
+	 */
+	interface OfChar extends TypeHandler<Character> {
+
+		/**
+		 * process a non empty range of characters to a <code>char</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @param format of data, null otherwise
+		 * @return the value
+		 */
+		char readChar(CharSequence source, int start, int end, String format);
+
+		/**
+		 * transform a <code>char</code> to an output string
+		 *
+		 * @param data   the value
+		 * @param format of data, null otherwise
+		 * @return string content of the value
+		 */
+		String writeChar(char data, String format);
+
+		@Override
+		default Codec.OfChar bind(String format, int length) {
+			return new Codec.OfChar() {
+
+				@Override
+				public char readChar(CharSequence source, int start, int end) {
+					return TypeHandler.OfChar.this.readChar(source, start, end, format);
+				}
+
+				@Override
+				public String writeChar(char data) {
+					return TypeHandler.OfChar.this.writeChar(data, format);
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * Type handler specialized for <code>double</code> fields, avoiding boxing
+	 */
+	interface OfDouble extends TypeHandler<Double> {
+
+		/**
+		 * process a non empty range of characters to a <code>double</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @param format of data, null otherwise
+		 * @return the value
+		 */
+		double readDouble(CharSequence source, int start, int end, String format);
+
+		/**
+		 * transform a <code>double</code> to an output string
+		 *
+		 * @param data   the value
+		 * @param format of data, null otherwise
+		 * @return string content of the value
+		 */
+		String writeDouble(double data, String format);
+
+		@Override
+		default Codec.OfDouble bind(String format, int length) {
+			return new Codec.OfDouble() {
+
+				@Override
+				public double readDouble(CharSequence source, int start, int end) {
+					return TypeHandler.OfDouble.this.readDouble(source, start, end, format);
+				}
+
+				@Override
+				public String writeDouble(double data) {
+					return TypeHandler.OfDouble.this.writeDouble(data, format);
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * Type handler specialized for <code>boolean</code> fields, avoiding boxing
+	 */
+	interface OfBoolean extends TypeHandler<Boolean> {
+
+		/**
+		 * process a non empty range of characters to a <code>boolean</code>
+		 *
+		 * @param source the characters holding the data
+		 * @param start  the data start index (inclusive)
+		 * @param end    the data end index (exclusive)
+		 * @param format of data, null otherwise
+		 * @return the value
+		 */
+		boolean readBoolean(CharSequence source, int start, int end, String format);
+
+		/**
+		 * transform a <code>boolean</code> to an output string
+		 *
+		 * @param data   the value
+		 * @param format of data, null otherwise
+		 * @return string content of the value
+		 */
+		String writeBoolean(boolean data, String format);
+
+		@Override
+		default Codec.OfBoolean bind(String format, int length) {
+			return new Codec.OfBoolean() {
+
+				@Override
+				public boolean readBoolean(CharSequence source, int start, int end) {
+					return TypeHandler.OfBoolean.this.readBoolean(source, start, end, format);
+				}
+
+				@Override
+				public String writeBoolean(boolean data) {
+					return TypeHandler.OfBoolean.this.writeBoolean(data, format);
+				}
+
+			};
+		}
+
+	}
+
 }
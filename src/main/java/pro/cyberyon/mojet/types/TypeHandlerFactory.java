@@ -41,7 +41,12 @@ public final class TypeHandlerFactory {
 		types.add(new BigIntegerTypeHandler());
 		types.add(new ByteTypeHandler());
 		types.add(new CharacterTypeHandler());
+		types.add(new DoubleTypeHandler());
+		types.add(new BooleanTypeHandler());
 		types.add(new LocalDateTypeHandler());
+		types.add(new LocalTimeTypeHandler());
+		types.add(new LocalDateTimeTypeHandler());
+		types.add(new YearMonthTypeHandler());
 		handlers = Collections.unmodifiableSet(types);
 	}
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link DiscriminatorTable}
+ *
+ * @author Guillaume CHAUVET
+ */
+class DiscriminatorTableTest {
+
+	@Test
+	void testGet() {
+		final Map<String, Integer> entries = new HashMap<>();
+		for (int i = 0; i < 500; i++) {
+			entries.put(String.format("%03d", i), i);
+		}
+		final DiscriminatorTable<Integer> instance = new DiscriminatorTable<>(2, 3, entries);
+		for (int i = 0; i < 500; i++) {
+			assertEquals(i, instance.get(String.format("##%03dDATA", i)));
+		}
+		assertNull(instance.get("##500DATA"));
+		assertNull(instance.get("##12"));
+		assertNull(new DiscriminatorTable<>(0, 1, new HashMap<String, Integer>()).get("A"));
+	}
+
+}
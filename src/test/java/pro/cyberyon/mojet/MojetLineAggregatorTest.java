@@ -15,11 +15,19 @@
  */
 package pro.cyberyon.mojet;
 
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.Month;
 import lombok.Data;
+import org.apache.commons.text.TextStringBuilder;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import pro.cyberyon.mojet.io.ByteCharset;
 import pro.cyberyon.mojet.types.TypeHandler;
 
 /**
@@ -71,6 +79,120 @@ class MojetLineAggregatorTest {
 		assertEquals("7770000###||CHAUVET   _Guillaume99075C2    4    6    TEST000€€€", instance.aggregate(item));
 	}
 
+	@Test
+	void testAggregateTo() throws Exception {
+		final var instance = new MojetLineAggregator<>(SimplePojo.class);
+		final SimplePojo item = new SimplePojo();
+		item.setId(777);
+		item.setName("CHAUVET");
+		item.setSurname("Guillaume");
+		item.setDate(LocalDate.of(1999, Month.JULY, 18));
+		item.setBounded("TESTAAAAAA");
+		final String expected = "7770000###||CHAUVET   _Guillaume99075C2    4    6    TEST000€€€";
+		final TextStringBuilder builder = new TextStringBuilder("> ");
+		instance.aggregateTo(item, builder);
+		assertEquals("> " + expected, builder.toString());
+		final StringWriter writer = new StringWriter();
+		instance.aggregateTo(item, writer);
+		instance.aggregateTo(item, writer);
+		assertEquals(expected + expected, writer.toString());
+		final CharBuffer buffer = CharBuffer.allocate(instance.getLength());
+		instance.aggregateTo(item, buffer);
+		assertFalse(buffer.hasRemaining());
+		assertEquals(expected, buffer.flip().toString());
+	}
+
+	@Test
+	void testTemplate() {
+		final var instance = new MojetLineAggregator<>(new NodesBuilder(), SimplePojo.class, Engine.INTERPRETER);
+		final SimplePojo item = new SimplePojo();
+		item.setId(1234567);
+		item.setName("LONGERNAME");
+		item.setSurname("Guillaume");
+		item.setDate(LocalDate.of(1999, Month.JULY, 18));
+		item.setBounded("TEST");
+		assertEquals("1234567###||LONGERNAME_Guillaume99075C2    4    6    TEST000€€€", instance.aggregate(item));
+		item.setId(7);
+		item.setName("C");
+		item.setSurname("G");
+		assertEquals("7000000###||C         _________G99075C2    4    6    TEST000€€€", instance.aggregate(item));
+	}
+
+	@Data
+	@Record
+	public static final class DecimalPojo {
+		@Fragment(length = 5, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		private int integer;
+		@Fragment(length = 20, alignement = Fragment.PadWay.LEFT)
+		private long big;
+		@Fragment(length = 3, padder = '*', alignement = Fragment.PadWay.RIGHT)
+		private short small;
+		@Fragment(length = 4)
+		private byte tiny;
+		@Fragment(length = 6, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		private Integer boxed;
+		@Fragment(length = 25, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		private BigInteger huge;
+		@Fragment(length = 2, alignement = Fragment.PadWay.LEFT, truncable = true)
+		private long truncated;
+	}
+
+	@Test
+	void testDecimal() {
+		final NodesBuilder builder = new NodesBuilder();
+		final var interpreter = new MojetLineAggregator<>(builder, DecimalPojo.class, Engine.INTERPRETER);
+		final var bytecode = new MojetLineAggregator<>(builder, DecimalPojo.class, Engine.BYTECODE);
+		final DecimalPojo item = new DecimalPojo();
+		item.setInteger(42);
+		item.setBig(Long.MIN_VALUE);
+		item.setSmall((short) -7);
+		item.setTiny((byte) -128);
+		item.setHuge(new BigInteger("123456789012345678901234"));
+		item.setTruncated(987);
+		String expected = "00042-9223372036854775808*-7-128000000012345678901234567890123498";
+		assertEquals(expected, interpreter.aggregate(item));
+		assertEquals(expected, bytecode.aggregate(item));
+		item.setBig(0);
+		item.setBoxed(-12);
+		item.setHuge(BigInteger.valueOf(-5));
+		item.setTruncated(-3);
+		expected = "000420                   *-7-128000-1200000000000000000000000-5-3";
+		assertEquals(expected, interpreter.aggregate(item));
+		assertEquals(expected, bytecode.aggregate(item));
+		item.setTiny((byte) 1);
+		assertThrows(MojetRuntimeException.class, () -> interpreter.aggregate(item));
+		assertThrows(MojetRuntimeException.class, () -> bytecode.aggregate(item));
+		item.setTiny((byte) 1000);
+		item.setInteger(123456);
+		assertThrows(MojetRuntimeException.class, () -> interpreter.aggregate(item));
+		assertThrows(MojetRuntimeException.class, () -> bytecode.aggregate(item));
+	}
+
+	@Test
+	void testBytesAggregation() {
+		final Charset charset = Charset.isSupported("IBM037") ? Charset.forName("IBM037") : StandardCharsets.ISO_8859_1;
+		final ByteCharset bytes = ByteCharset.of(charset);
+		final var instance = new MojetLineAggregator<>(SimplePojo.class);
+		final SimplePojo item = new SimplePojo();
+		item.setId(777);
+		item.setName("CHAUVET");
+		item.setSurname("Guillaume");
+		item.setDate(LocalDate.of(1999, Month.JULY, 18));
+		item.setBounded("TESTAAAAAA");
+		final String expected = "7770000###||CHAUVET   _Guillaume99075C2    4    6    TEST000€€€";
+		final byte[] result = instance.aggregate(item, bytes);
+		assertArrayEquals(expected.getBytes(charset), result);
+		final ByteBuffer buffer = ByteBuffer.allocate(result.length + 2);
+		buffer.put((byte) 1);
+		instance.aggregate(item, buffer, bytes);
+		assertEquals(result.length + 1, buffer.position());
+		final SimplePojo read = new MojetLineMapper<>(SimplePojo.class).map(result, bytes);
+		assertEquals(item.getId(), read.getId());
+		assertEquals(item.getName(), read.getName());
+		assertEquals(item.getSurname(), read.getSurname());
+		assertArrayEquals(item.getValues(), read.getValues());
+	}
+
 	@Data
 	@Record
 	public static final class UndefinedPojo {
@@ -43,6 +43,76 @@ class MojetLineMapperTest {
 		assertEquals(new ChildPojo(0, "USD"), result.getChildrens()[1]);
 	}
 
+	@Test
+	void testProjection() throws Exception {
+		final MojetLineMapper<RootPojo> mapper = new MojetLineMapper<>(new NodesBuilder(), RootPojo.class, "counter", "childrens[1].label");
+		final RootPojo result = mapper.mapLine("01985000##114273EUR567   100011000210003 200301114273NZD000000USD        _____", 1);
+		assertEquals(567, result.getCounter());
+		assertEquals(0, result.getId());
+		assertNull(result.getChild());
+		assertNull(result.getValues());
+		assertNull(result.getChildrens()[0]);
+		assertEquals(new ChildPojo(0, "USD"), result.getChildrens()[1]);
+		final MojetLineMapper<RootPojo> counter = new MojetLineMapper<>(new NodesBuilder(), RootPojo.class, "counter");
+		assertEquals(123, counter.mapLine("01985000##ZZZZZZZZZ123", 1).getCounter());
+		assertThrows(MojetRuntimeException.class, () -> new MojetLineMapper<>(new NodesBuilder(), RootPojo.class, "unknown"));
+	}
+
+	public interface ChildView {
+
+		long getTotal();
+
+		String getLabel();
+	}
+
+	public interface RootView {
+
+		long getId();
+
+		int getCounter();
+
+		ChildView getChild();
+
+		long[] getValues();
+
+		ChildView[] getChildrens();
+
+		LocalDate optional();
+
+		default String getChildLabel() {
+			return getChild().getLabel();
+		}
+	}
+
+	public interface BadView {
+
+		String getUnknown();
+	}
+
+	@Test
+	void testView() throws Exception {
+		final MojetLineMapper<RootView> mapper = new MojetLineMapper<>(new NodesBuilder(), RootPojo.class, RootView.class);
+		final String line = "01985000##114273EUR5X7   100011000210003 200301114273NZD000000USD        _____";
+		final RootView result = mapper.mapLine(line, 1);
+		assertEquals(line, result.toString());
+		assertEquals(1985, result.getId());
+		assertEquals("EUR", result.getChildLabel());
+		assertSame(result.getChild(), result.getChild());
+		assertEquals(114273, result.getChild().getTotal());
+		assertArrayEquals(new long[]{10001, 10002, 10003}, result.getValues());
+		result.getValues()[0] = 0;
+		assertArrayEquals(new long[]{10001, 10002, 10003}, result.getValues());
+		assertNotSame(result.getChildrens(), result.getChildrens());
+		assertSame(result.getChildrens()[0], result.getChildrens()[0]);
+		assertEquals(2, result.getChildrens().length);
+		assertEquals("USD", result.getChildrens()[1].getLabel());
+		assertEquals(0, result.getChildrens()[1].getTotal());
+		assertNull(result.optional());
+		assertThrows(MojetRuntimeException.class, result::getCounter);
+		assertThrows(MojetRuntimeException.class, () -> new MojetLineMapper<>(new NodesBuilder(), RootPojo.class, BadView.class));
+		assertThrows(MojetRuntimeException.class, () -> new MojetLineMapper<>(new NodesBuilder(), RootPojo.class, RootPojo.class));
+	}
+
 	@Data
 	@Record
 	public static class BadFragmentPojo {
@@ -84,4 +154,103 @@ class MojetLineMapperTest {
 		assertThrows(MojetRuntimeException.class, () -> new MojetLineMapper(BadRecordPojo.class));
 	}
 
+	@Data
+	@Record
+	public static class NestedPojo {
+
+		@Record
+		private ChildPojo first;
+		@Record
+		private ChildPojo second;
+		@Record
+		@Occurences(2)
+		private GroupPojo[] groups;
+	}
+
+	@Data
+	@Record
+	public static class GroupPojo {
+
+		@Fragment(length = 1)
+		private char code;
+		@Fragment(length = 2, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		@Occurences(2)
+		private int[] values;
+	}
+
+	@Test
+	void testNestedRecords() throws Exception {
+		final MojetLineMapper<NestedPojo> mapper = new MojetLineMapper<>(NestedPojo.class);
+		final NestedPojo result = mapper.mapLine("000001ONE000002TWOA0102B0304", 1);
+		assertEquals(new ChildPojo(1, "ONE"), result.getFirst());
+		assertEquals(new ChildPojo(2, "TWO"), result.getSecond());
+		assertEquals('A', result.getGroups()[0].getCode());
+		assertArrayEquals(new int[]{1, 2}, result.getGroups()[0].getValues());
+		assertEquals('B', result.getGroups()[1].getCode());
+		assertArrayEquals(new int[]{3, 4}, result.getGroups()[1].getValues());
+	}
+
+	@Record
+	public static class NoDefaultConstructorPojo {
+
+		@Fragment(length = 3)
+		private final String value;
+
+		public NoDefaultConstructorPojo(String value) {
+			this.value = value;
+		}
+	}
+
+	@Test
+	void testNoDefaultConstructor() {
+		final MojetLineMapper<NoDefaultConstructorPojo> mapper = new MojetLineMapper<>(NoDefaultConstructorPojo.class);
+		assertThrows(MojetRuntimeException.class, () -> mapper.mapLine("ABC", 1));
+	}
+
+	@Data
+	@Record
+	public static class PrimitivePojo {
+
+		@Fragment(length = 4, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		private int number;
+		@Fragment(length = 3, padder = ' ', alignement = Fragment.PadWay.LEFT)
+		@Occurences(2)
+		private long[] amounts;
+		@Fragment(length = 5, alignement = Fragment.PadWay.LEFT)
+		private double rate;
+		@Fragment(length = 1, format = "Y|N")
+		private boolean active;
+		@Fragment(length = 1)
+		private char code;
+		@Fragment(length = 2, alignement = Fragment.PadWay.LEFT)
+		private short unset = 7;
+	}
+
+	@Test
+	void testPrimitiveFields() throws Exception {
+		final String line = "004212 3  1.25 YZ  ";
+		final PrimitivePojo result = new MojetLineMapper<>(PrimitivePojo.class).mapLine(line, 1);
+		assertEquals(42, result.getNumber());
+		assertArrayEquals(new long[]{12, 3}, result.getAmounts());
+		assertEquals(1.25, result.getRate());
+		assertTrue(result.isActive());
+		assertEquals('Z', result.getCode());
+		assertEquals(7, result.getUnset());
+		result.setUnset((short) 0);
+		assertEquals("004212 3  1.25 YZ0 ", new MojetLineAggregator<>(PrimitivePojo.class).aggregate(result));
+	}
+
+	@Data
+	@Record
+	public static class BadFormatPojo {
+
+		@Fragment(length = 8, format = "yyyy{")
+		private LocalDate date;
+	}
+
+	@Test
+	void testBadFormat() {
+		assertThrows(MojetRuntimeException.class, () -> new MojetLineMapper<>(BadFormatPojo.class));
+	}
+
 }
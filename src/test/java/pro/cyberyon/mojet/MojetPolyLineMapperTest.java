@@ -16,6 +16,8 @@
 package pro.cyberyon.mojet;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import org.junit.jupiter.api.Test;
@@ -74,6 +76,117 @@ class MojetPolyLineMapperTest {
 		}
 	}
 
+	@Getter
+	@Setter
+	@Record
+	@Discriminator(offset = 1, length = 2, value = "01")
+	public static final class FirstPojo implements RecordVisitable<PojoVisitor> {
+		@Zap(length = 3)
+		@Fragment(length = 4)
+		private String code;
+
+		@Override
+		public void accept(PojoVisitor visitor) {
+		}
+	}
+
+	@Getter
+	@Setter
+	@Record
+	@Discriminator(offset = 1, length = 2, value = "02")
+	@Matcher("X02*")
+	public static final class SecondPojo implements RecordVisitable<PojoVisitor> {
+		@Zap(length = 3)
+		@Fragment(length = 2, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		private int count;
+
+		@Override
+		public void accept(PojoVisitor visitor) {
+		}
+	}
+
+	@Getter
+	@Setter
+	@Record
+	@Discriminator(offset = 1, length = 2, value = "02")
+	public static final class DuplicatePojo implements RecordVisitable<PojoVisitor> {
+		@Fragment(length = 4)
+		private String code;
+
+		@Override
+		public void accept(PojoVisitor visitor) {
+		}
+	}
+
+	@Getter
+	@Setter
+	@Record
+	@Discriminator(offset = 3, length = 2, value = "03")
+	public static final class OverflowPojo implements RecordVisitable<PojoVisitor> {
+		@Fragment(length = 4)
+		private String code;
+
+		@Override
+		public void accept(PojoVisitor visitor) {
+		}
+	}
+
+	@Getter
+	@Setter
+	@Record
+	public static final class UndefinedPojo implements RecordVisitable<PojoVisitor> {
+		@Fragment(length = 4)
+		private String code;
+
+		@Override
+		public void accept(PojoVisitor visitor) {
+		}
+	}
+
+	@Test
+	void testDiscriminator() throws Exception {
+		final Set<Class<? extends RecordVisitable>> pojos = Set.of(FirstPojo.class, SecondPojo.class, MyPojo.class);
+		final var mapper = new MojetPolyLineMapper<>(pojos);
+		assertEquals("ABCD", ((FirstPojo) mapper.mapLine("X01ABCD", 1)).getCode());
+		assertEquals(42, ((SecondPojo) mapper.mapLine("Y0242", 2)).getCount());
+		assertEquals(123, ((MyPojo) mapper.mapLine("MY123      TESTVALUE     ", 3)).getValue());
+		assertEquals(7, mapper.getLength("X01ABCDY0242"));
+		assertEquals(5, mapper.getLength("Y0242X01ABCD"));
+		assertEquals(42, ((SecondPojo) mapper.map("Z0242")).getCount());
+		assertThrows(IllegalStateException.class, () -> mapper.mapLine("X03ABCD", 4));
+		assertThrows(MojetRuntimeException.class, () -> new MojetPolyLineMapper<>(Set.of(SecondPojo.class, DuplicatePojo.class)));
+		assertThrows(MojetRuntimeException.class, () -> new MojetPolyLineMapper<>(Set.of(OverflowPojo.class)));
+		assertThrows(MojetRuntimeException.class, () -> new MojetPolyLineMapper<>(Set.of(UndefinedPojo.class)));
+	}
+
+	@Test
+	void testUnwanted() throws Exception {
+		final Set<Class<? extends RecordVisitable>> pojos = Set.of(FirstPojo.class, SecondPojo.class);
+		final var skipping = new MojetPolyLineMapper<>(pojos, Set.of(FirstPojo.class));
+		assertEquals("ABCD", ((FirstPojo) skipping.mapLine("X01ABCD", 1)).getCode());
+		final UnwantedRecordException ex = assertThrows(UnwantedRecordException.class, () -> skipping.mapLine("Y02XX", 2));
+		assertEquals("Y02XX", ex.getInput());
+		assertEquals(2, ex.getLineNumber());
+		assertNull(skipping.map("Z02XX"));
+		assertEquals(5, skipping.getLength("Y02XXX01ABCD"));
+		final var passing = new MojetPolyLineMapper<>(pojos, Set.of(FirstPojo.class), RecordVisitable.class);
+		assertEquals(new RawRecord("Y02XX"), passing.mapLine("Y02XX", 1));
+		assertEquals(new RawRecord("Z02XX"), passing.map("Z02XX"));
+		assertThrows(MojetRuntimeException.class, () -> new MojetPolyLineMapper<>(pojos, Set.of(MyPojo.class)));
+		assertThrows(MojetRuntimeException.class, () -> new MojetPolyLineMapper<>(Set.of(FirstPojo.class), Set.of(FirstPojo.class), FirstPojo.class));
+	}
+
+	@Test
+	void testPassThroughReadAndWrite() throws Exception {
+		final Set<Class<? extends RecordVisitable>> pojos = Set.of(FirstPojo.class, SecondPojo.class);
+		final var mapper = new MojetPolyLineMapper<>(pojos, Set.of(FirstPojo.class), RecordVisitable.class);
+		final var aggregator = new MojetPolyLineAggregator<>(pojos);
+		for (String line : List.of("Y02XX", "Z0242", "Y02 ?\u00e9")) {
+			assertEquals(line, aggregator.aggregate(mapper.mapLine(line, 1)));
+		}
+		assertEquals("   ABCD", aggregator.aggregate(mapper.mapLine("X01ABCD", 1)));
+	}
+
 	@Test
 	void testMultiplePojoTypeReadAndWrite() throws Exception {
 		final var mappers = new HashSet<Class<? extends RecordVisitable>>();
@@ -112,4 +225,18 @@ class MojetPolyLineMapperTest {
 		});
 	}
 
+	@Test
+	void testRecordLength() {
+		final var mappers = new HashSet<Class<? extends RecordVisitable>>();
+		mappers.add(MyPojo.class);
+		mappers.add(YourPojo.class);
+		final var mapper = new MojetPolyLineMapper<>(mappers);
+		assertEquals(25, mapper.getMaxLength());
+		assertEquals(25, mapper.getLength("MY123      TESTVALUE     YOUR567TEST 07890"));
+		assertEquals(17, mapper.getLength("YOUR567TEST 07890MY123"));
+		assertEquals("TEST", ((YourPojo) mapper.map("YOUR567TEST 07890")).getName());
+		assertThrows(MojetRuntimeException.class, () -> mapper.getLength("MY123"));
+		assertThrows(MojetRuntimeException.class, () -> mapper.getLength("THEIR567TEST 07890"));
+	}
+
 }
@@ -65,6 +65,13 @@ class MojetTest {
 
 	}
 
+	private static class UnknownPojo implements RecordVisitable<CustomVisitor> {
+
+		@Override
+		public void accept(CustomVisitor visitor) {
+		}
+	}
+
 	private interface CustomVisitor extends RecordVisitor {
 
 		void visit(FooPojo instance);
@@ -92,7 +99,11 @@ class MojetTest {
 		bar.setValue(18071985);
 		assertEquals("BAR00000000000018071985", aggregator.aggregate(bar));
 		final var zarb = new ZarbPojo();
-		assertThrows(MojetRuntimeException.class, () -> aggregator.aggregate(zarb));
+		zarb.setValue(1985);
+		assertEquals("BAR00000000000000001985", aggregator.aggregate(zarb));
+		assertSame(aggregator.aggregator(bar), aggregator.aggregator(zarb));
+		final var unknown = new UnknownPojo();
+		assertThrows(MojetRuntimeException.class, () -> aggregator.aggregate(unknown));
 	}
 
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link PatternAutomaton}
+ *
+ * @author Guillaume CHAUVET
+ */
+class PatternAutomatonTest {
+
+	private static PatternAutomaton<String> automaton(final String... patterns) {
+		final Map<String, String> entries = new HashMap<>();
+		for (String pattern : patterns) {
+			entries.put(pattern, pattern);
+		}
+		return new PatternAutomaton<>(entries, String::length);
+	}
+
+	@Test
+	void testMatch() {
+		final PatternAutomaton<String> instance = automaton("MY*", "MYX*", "YOUR?", "A*Z", "ÉTÉ", "*");
+		assertEquals("MY*", instance.match("MY123"));
+		assertEquals("MY*", instance.match("MY"));
+		assertEquals("MYX*", instance.match("MYX123"));
+		assertEquals("YOUR?", instance.match("YOURS"));
+		assertEquals("*", instance.match("YOUR"));
+		assertEquals("*", instance.match("YOURSELF"));
+		assertEquals("A*Z", instance.match("ABCZ"));
+		assertEquals("A*Z", instance.match("AZ"));
+		assertEquals("*", instance.match("AZB"));
+		assertEquals("ÉTÉ", instance.match("ÉTÉ"));
+		assertEquals("*", instance.match(""));
+		assertNull(automaton("AB", "C?").match("ABC"));
+		assertNull(automaton("AB", "C?").match("C"));
+		assertEquals("C?", automaton("AB", "C?").match("CD"));
+	}
+
+	@Test
+	void testMatchPrefix() {
+		final PatternAutomaton<String> instance = new PatternAutomaton<>(Map.of("H*", "header", "D??*", "detail", "DX*", "extra"), value -> value.length());
+		assertEquals("header", instance.matchPrefix("H12345DX1"));
+		assertEquals("detail", instance.matchPrefix("D1234HXX"));
+		assertEquals("extra", instance.matchPrefix("DX123"));
+		assertNull(instance.matchPrefix("D1234"));
+		assertNull(instance.matchPrefix("X123456"));
+	}
+
+	@Test
+	void testAmbiguous() {
+		assertThrows(MojetRuntimeException.class, () -> automaton("A*", "*B"));
+		assertThrows(MojetRuntimeException.class, () -> automaton("A?", "?B"));
+		assertThrows(MojetRuntimeException.class, () -> automaton("A*C", "AB*"));
+		assertNotNull(automaton("A*", "B*", "AB*", "*"));
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.time.LocalDate;
+import java.time.Month;
+import lombok.Data;
+import org.apache.commons.text.TextStringBuilder;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link RecordCompiler}
+ *
+ * @author Guillaume CHAUVET
+ */
+class RecordCompilerTest {
+
+	@Data
+	@Record
+	public static class LargePojo {
+		@Fragment(length = 2, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		@Occurences(2000)
+		private int[] values;
+	}
+
+	private static final String LINE = "01985000##114273EUR567   100011000210003 200301114273NZD000000USD        _____";
+
+	@Test
+	void testCompile() {
+		final NodesBuilder builder = new NodesBuilder();
+		final CompiledRecord<RootPojo> compiled = builder.compile(RootPojo.class);
+		assertNotNull(compiled);
+		assertSame(compiled, builder.compile(RootPojo.class));
+		assertTrue(compiled.getClass().isHidden());
+		final RootPojo result = compiled.map(LINE);
+		assertEquals(1985, result.getId());
+		assertEquals(new ChildPojo(114273, "EUR"), result.getChild());
+		assertEquals(567, result.getCounter());
+		assertArrayEquals(new long[]{10001, 10002, 10003}, result.getValues());
+		assertEquals(' ', result.getSpace());
+		assertEquals(LocalDate.of(2003, Month.JANUARY, 1), result.getDate());
+		assertEquals(new ChildPojo(114273, "NZD"), result.getChildrens()[0]);
+		assertEquals(new ChildPojo(0, "USD"), result.getChildrens()[1]);
+		assertEquals(LocalDate.of(2025, Month.JULY, 29), result.getOptional());
+		final TextStringBuilder output = new TextStringBuilder();
+		compiled.aggregate(result, output);
+		assertEquals("19850000##114273EUR567   100011000210003 200301114273NZD000000USD20250729_____", output.toString());
+	}
+
+	@Test
+	void testEngines() throws Exception {
+		final NodesBuilder builder = new NodesBuilder();
+		final var interpreted = new MojetLineMapper<>(builder, RootPojo.class, Engine.INTERPRETER);
+		final var generated = new MojetLineMapper<>(builder, RootPojo.class, Engine.BYTECODE);
+		assertEquals(interpreted.mapLine(LINE, 1), generated.mapLine(LINE, 1));
+		final var aggregator = new MojetLineAggregator<>(builder, MojetLineAggregatorTest.SimplePojo.class, Engine.BYTECODE);
+		final var item = new MojetLineAggregatorTest.SimplePojo();
+		item.setId(777);
+		item.setName("CHAUVET");
+		item.setSurname("Guillaume");
+		item.setDate(LocalDate.of(1999, Month.JULY, 18));
+		item.setBounded("TESTAAAAAA");
+		assertEquals("7770000###||CHAUVET   _Guillaume99075C2    4    6    TEST000€€€", aggregator.aggregate(item));
+	}
+
+	@Test
+	void testPrimitives() throws Exception {
+		final String line = "004212 3  1.25 YZ  ";
+		final NodesBuilder builder = new NodesBuilder();
+		assertNotNull(builder.compile(MojetLineMapperTest.PrimitivePojo.class));
+		final var interpreted = new MojetLineMapper<>(builder, MojetLineMapperTest.PrimitivePojo.class, Engine.INTERPRETER);
+		final var generated = new MojetLineMapper<>(builder, MojetLineMapperTest.PrimitivePojo.class, Engine.BYTECODE);
+		final MojetLineMapperTest.PrimitivePojo result = generated.mapLine(line, 1);
+		assertEquals(interpreted.mapLine(line, 1), result);
+		assertEquals(7, result.getUnset());
+		result.setUnset((short) -3);
+		final var aggregator = new MojetLineAggregator<>(builder, MojetLineMapperTest.PrimitivePojo.class, Engine.BYTECODE);
+		assertEquals("004212 3  1.25 YZ-3", aggregator.aggregate(result));
+	}
+
+	@Test
+	void testLarge() throws Exception {
+		final NodesBuilder builder = new NodesBuilder();
+		assertNotNull(builder.compile(LargePojo.class));
+		final String line = "0123456789".repeat(400);
+		final var interpreted = new MojetLineMapper<>(builder, LargePojo.class, Engine.INTERPRETER);
+		final var mapper = new MojetLineMapper<>(builder, LargePojo.class, Engine.BYTECODE);
+		final LargePojo result = mapper.mapLine(line, 1);
+		assertEquals(interpreted.mapLine(line, 1), result);
+		assertEquals(89, result.getValues()[1999]);
+		assertEquals(line, new MojetLineAggregator<>(builder, LargePojo.class, Engine.BYTECODE).aggregate(result));
+	}
+
+	@Test
+	void testErrors() {
+		final var mapper = new MojetLineMapper<>(new NodesBuilder(), RootPojo.class, Engine.BYTECODE);
+		assertThrows(MojetRuntimeException.class, () -> mapper.mapLine(LINE.replace("567", "ABC"), 1));
+		final var aggregator = new MojetLineAggregator<>(new NodesBuilder(), MojetLineAggregatorTest.OverflowPojo.class, Engine.BYTECODE);
+		final var pojo = new MojetLineAggregatorTest.OverflowPojo();
+		assertEquals("Data overflow", assertThrows(MojetRuntimeException.class, () -> aggregator.aggregate(pojo)).getMessage());
+	}
+
+}
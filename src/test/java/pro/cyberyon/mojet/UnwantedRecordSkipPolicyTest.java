@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.core.io.ByteArrayResource;
+import pro.cyberyon.mojet.MojetPolyLineMapperTest.FirstPojo;
+import pro.cyberyon.mojet.MojetPolyLineMapperTest.SecondPojo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link UnwantedRecordSkipPolicy}
+ *
+ * @author Guillaume CHAUVET
+ */
+class UnwantedRecordSkipPolicyTest {
+
+	private static final String CONTENT = "X01ABCD\nY0242\nY02XX\nX01EFGH\nY0207\n";
+
+	/**
+	 * Read every record as a fault tolerant step does, collecting the
+	 * exceptions not skipped by the policy
+	 */
+	private static List<Object> read(final SkipPolicy policy) throws Exception {
+		final Set<Class<? extends RecordVisitable>> pojos = Set.of(FirstPojo.class, SecondPojo.class);
+		final FlatFileItemReader<RecordVisitable> reader = new FlatFileItemReader<>();
+		reader.setResource(new ByteArrayResource(CONTENT.getBytes(StandardCharsets.ISO_8859_1)));
+		reader.setLineMapper(new MojetPolyLineMapper<>(pojos, Set.of(SecondPojo.class)));
+		reader.open(new ExecutionContext());
+		final List<Object> result = new ArrayList<>();
+		long skipCount = 0;
+		while (true) {
+			try {
+				final RecordVisitable item = reader.read();
+				if (item == null) {
+					break;
+				}
+				result.add(((SecondPojo) item).getCount());
+			} catch (FlatFileParseException ex) {
+				if (!policy.shouldSkip(ex, skipCount)) {
+					result.add(ex.getLineNumber());
+				}
+				skipCount++;
+			}
+		}
+		reader.close();
+		return result;
+	}
+
+	@Test
+	void testUnwantedOnly() throws Exception {
+		assertEquals(List.of(42, 3, 7), read(new UnwantedRecordSkipPolicy()));
+	}
+
+	@Test
+	void testSkipLimit() throws Exception {
+		final SkipPolicy limited = new LimitCheckingItemSkipPolicy(1, t -> t instanceof FlatFileParseException);
+		assertEquals(List.of(42, 7), read(new UnwantedRecordSkipPolicy(limited)));
+		assertThrows(SkipLimitExceededException.class, () -> read(limited));
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+import pro.cyberyon.mojet.MojetLineAggregator;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link BufferedRecordWriter}
+ *
+ * @author Guillaume CHAUVET
+ */
+class BufferedRecordWriterTest {
+
+	@TempDir
+	private Path folder;
+
+	@Test
+	void testWrite() throws Exception {
+		final Path file = folder.resolve("records.txt");
+		Files.writeString(file, "previous content to overwrite");
+		final BufferedRecordWriter<ItemPojo> writer = new BufferedRecordWriter<>(new FileSystemResource(file), new MojetLineAggregator<>(ItemPojo.class));
+		writer.setBufferSize(20);
+		writer.open(new ExecutionContext());
+		writer.write(Chunk.of(new ItemPojo(1, "first"), new ItemPojo(2, "second"), new ItemPojo(3, "third")));
+		writer.write(Chunk.of(new ItemPojo(4, "fourth")));
+		writer.close();
+		assertEquals("00001first \n00002second\n00003third \n00004fourth\n", Files.readString(file, StandardCharsets.ISO_8859_1));
+	}
+
+	@Test
+	void testCharset() throws Exception {
+		final Charset charset = Charset.isSupported("IBM037") ? Charset.forName("IBM037") : StandardCharsets.ISO_8859_1;
+		final Path file = folder.resolve("records.dat");
+		final BufferedRecordWriter<ItemPojo> writer = new BufferedRecordWriter<>(new FileSystemResource(file), new MojetLineAggregator<>(ItemPojo.class));
+		writer.setCharset(ByteCharset.of(charset));
+		writer.setSeparator("");
+		writer.open(new ExecutionContext());
+		writer.write(Chunk.of(new ItemPojo(1, "first"), new ItemPojo(2, "second")));
+		writer.close();
+		assertArrayEquals("00001first 00002second".getBytes(charset), Files.readAllBytes(file));
+	}
+
+	@Test
+	void testRestart() throws Exception {
+		final Path file = folder.resolve("records.txt");
+		final ExecutionContext context = new ExecutionContext();
+		final BufferedRecordWriter<ItemPojo> writer = new BufferedRecordWriter<>(new FileSystemResource(file), new MojetLineAggregator<>(ItemPojo.class));
+		writer.open(context);
+		writer.write(Chunk.of(new ItemPojo(1, "first")));
+		writer.update(context);
+		writer.write(Chunk.of(new ItemPojo(2, "failed")));
+		writer.close();
+		assertEquals(12, context.getLong("BufferedRecordWriter.offset"));
+		final BufferedRecordWriter<ItemPojo> restarted = new BufferedRecordWriter<>(new FileSystemResource(file), new MojetLineAggregator<>(ItemPojo.class));
+		restarted.open(context);
+		restarted.write(Chunk.of(new ItemPojo(2, "second")));
+		restarted.close();
+		assertEquals(List.of("00001first ", "00002second"), Files.readAllLines(file, StandardCharsets.ISO_8859_1));
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import pro.cyberyon.mojet.MojetRuntimeException;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit test of {@link ByteCharset}
+ *
+ * @author Guillaume CHAUVET
+ */
+class ByteCharsetTest {
+
+	@Test
+	void testIso() {
+		final ByteCharset instance = ByteCharset.ISO_8859_1;
+		assertEquals(StandardCharsets.ISO_8859_1, instance.getCharset());
+		assertEquals('A', instance.decode((byte) 0x41));
+		assertEquals('é', instance.decode((byte) 0xE9));
+		assertEquals((byte) 0xE9, instance.encode('é'));
+		assertEquals((byte) '?', instance.encode('€'));
+		assertEquals("BC", instance.decode(ByteBuffer.wrap("ABCD".getBytes(StandardCharsets.ISO_8859_1)), 1, 2));
+	}
+
+	@Test
+	void testAscii() {
+		final ByteCharset instance = ByteCharset.of(StandardCharsets.US_ASCII);
+		assertEquals('z', instance.decode((byte) 'z'));
+		assertEquals('�', instance.decode((byte) 0xE9));
+	}
+
+	@Test
+	void testEbcdic() {
+		assumeTrue(Charset.isSupported("IBM037"));
+		final Charset charset = Charset.forName("IBM037");
+		final ByteCharset instance = ByteCharset.of(charset);
+		final String text = "HELLO 0123456789 world";
+		final byte[] bytes = text.getBytes(charset);
+		for (int i = 0; i < bytes.length; i++) {
+			assertEquals(text.charAt(i), instance.decode(bytes[i]));
+			assertEquals(bytes[i], instance.encode(text.charAt(i)));
+		}
+	}
+
+	@Test
+	void testMultiBytes() {
+		assertThrows(MojetRuntimeException.class, () -> ByteCharset.of(StandardCharsets.UTF_8));
+		assertThrows(MojetRuntimeException.class, () -> ByteCharset.of(StandardCharsets.UTF_16));
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link ByteSequence}
+ *
+ * @author Guillaume CHAUVET
+ */
+class ByteSequenceTest {
+
+	@Test
+	void testSequence() {
+		final ByteBuffer buffer = ByteBuffer.wrap("##12345ABC##".getBytes(StandardCharsets.ISO_8859_1));
+		final ByteSequence instance = new ByteSequence(buffer, 2, 8, ByteCharset.ISO_8859_1);
+		assertEquals(8, instance.length());
+		assertEquals('1', instance.charAt(0));
+		assertEquals('C', instance.charAt(7));
+		assertThrows(IndexOutOfBoundsException.class, () -> instance.charAt(8));
+		assertEquals("345", instance.subSequence(2, 5).toString());
+		assertEquals("12345ABC", instance.toString());
+		assertEquals(2345, Integer.parseInt(instance, 1, 5, 10));
+		assertThrows(IndexOutOfBoundsException.class, () -> new ByteSequence(buffer, 8, 8, ByteCharset.ISO_8859_1));
+	}
+
+	@Test
+	void testConstructors() {
+		final ByteBuffer buffer = ByteBuffer.wrap("ABCD".getBytes(StandardCharsets.ISO_8859_1));
+		buffer.position(1).limit(3);
+		assertEquals("BC", new ByteSequence(buffer, ByteCharset.ISO_8859_1).toString());
+		assertEquals("ABCD", new ByteSequence("ABCD".getBytes(StandardCharsets.ISO_8859_1), ByteCharset.ISO_8859_1).toString());
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.cyberyon.mojet.Fragment;
+import pro.cyberyon.mojet.Record;
+
+/**
+ * Fixed length record test class.
+ */
+@Data
+@Record
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemPojo {
+
+	@Fragment(length = 5, padder = '0', alignement = Fragment.PadWay.RIGHT)
+	private int id;
+	@Fragment(length = 6, alignement = Fragment.PadWay.LEFT)
+	private String label;
+
+}
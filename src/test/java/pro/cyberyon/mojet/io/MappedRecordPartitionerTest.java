@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+import pro.cyberyon.mojet.MojetLineMapper;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link MappedRecordPartitioner}
+ *
+ * @author Guillaume CHAUVET
+ */
+class MappedRecordPartitionerTest {
+
+	@TempDir
+	private Path folder;
+
+	private FileSystemResource write(final int count, final String separator, final boolean last) throws Exception {
+		final StringBuilder content = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			content.append(String.format("%05d%-6s", i, "L" + i));
+			if (last || i < count - 1) {
+				content.append(separator);
+			}
+		}
+		final Path file = folder.resolve("records.txt");
+		Files.write(file, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+		return new FileSystemResource(file);
+	}
+
+	private static List<ItemPojo> read(final FileSystemResource resource, final String separator, final Map<String, ExecutionContext> partitions) throws Exception {
+		final List<ItemPojo> result = new ArrayList<>();
+		for (ExecutionContext partition : partitions.values()) {
+			final MappedRecordReader<ItemPojo> reader = new MappedRecordReader<>(resource, new MojetLineMapper<>(ItemPojo.class));
+			reader.setSeparator(separator);
+			reader.setStart(partition.getLong(MappedRecordPartitioner.START_KEY));
+			reader.setEnd(partition.getLong(MappedRecordPartitioner.END_KEY));
+			reader.open(new ExecutionContext());
+			for (ItemPojo item = reader.read(); item != null; item = reader.read()) {
+				result.add(item);
+			}
+			reader.close();
+		}
+		return result;
+	}
+
+	@Test
+	void testPartition() throws Exception {
+		final FileSystemResource resource = write(10, "\n", true);
+		final Map<String, ExecutionContext> result = new MappedRecordPartitioner(resource, new MojetLineMapper<>(ItemPojo.class)).partition(3);
+		assertEquals(3, result.size());
+		assertEquals(0, result.get("partition0").getLong(MappedRecordPartitioner.START_KEY));
+		assertEquals(48, result.get("partition0").getLong(MappedRecordPartitioner.END_KEY));
+		assertEquals(48, result.get("partition1").getLong(MappedRecordPartitioner.START_KEY));
+		assertEquals(84, result.get("partition1").getLong(MappedRecordPartitioner.END_KEY));
+		assertEquals(120, result.get("partition2").getLong(MappedRecordPartitioner.END_KEY));
+		final List<ItemPojo> items = read(resource, "\n", result);
+		assertEquals(10, items.size());
+		for (int i = 0; i < items.size(); i++) {
+			assertEquals(new ItemPojo(i, "L" + i), items.get(i));
+		}
+	}
+
+	@Test
+	void testWithoutSeparator() throws Exception {
+		final FileSystemResource resource = write(7, "", false);
+		final MappedRecordPartitioner instance = new MappedRecordPartitioner(resource, new MojetLineMapper<>(ItemPojo.class));
+		instance.setSeparator("");
+		final Map<String, ExecutionContext> result = instance.partition(2);
+		assertEquals(2, result.size());
+		assertEquals(44, result.get("partition1").getLong(MappedRecordPartitioner.START_KEY));
+		assertEquals(7, read(resource, "", result).size());
+	}
+
+	@Test
+	void testSmallFile() throws Exception {
+		final FileSystemResource resource = write(2, "\r\n", false);
+		final MappedRecordPartitioner instance = new MappedRecordPartitioner(resource, new MojetLineMapper<>(ItemPojo.class));
+		instance.setSeparator("\r\n");
+		final Map<String, ExecutionContext> result = instance.partition(4);
+		assertEquals(2, result.size());
+		assertEquals(24, result.get("partition1").getLong(MappedRecordPartitioner.END_KEY));
+		assertEquals(2, read(resource, "\r\n", result).size());
+		assertTrue(new MappedRecordPartitioner(write(0, "\n", false), new MojetLineMapper<>(ItemPojo.class)).partition(4).isEmpty());
+	}
+
+}
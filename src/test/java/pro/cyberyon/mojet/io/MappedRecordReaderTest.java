@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.FileSystemResource;
+import pro.cyberyon.mojet.Fragment;
+import pro.cyberyon.mojet.Matcher;
+import pro.cyberyon.mojet.MojetLineMapper;
+import pro.cyberyon.mojet.MojetPolyLineMapper;
+import pro.cyberyon.mojet.MojetRuntimeException;
+import pro.cyberyon.mojet.Record;
+import pro.cyberyon.mojet.RecordVisitable;
+import pro.cyberyon.mojet.RecordVisitor;
+import pro.cyberyon.mojet.Zap;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link MappedRecordReader}
+ *
+ * @author Guillaume CHAUVET
+ */
+class MappedRecordReaderTest {
+
+	@Data
+	@Record
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Matcher("H*")
+	public static final class HeaderPojo implements RecordVisitable<RecordVisitor> {
+		@Zap(length = 1, value = 'H')
+		@Fragment(length = 3, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		private int count;
+
+		@Override
+		public void accept(final RecordVisitor visitor) {
+		}
+	}
+
+	@Data
+	@Record
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Matcher("D*")
+	public static final class DetailPojo implements RecordVisitable<RecordVisitor> {
+		@Zap(length = 1, value = 'D')
+		@Fragment(length = 8, alignement = Fragment.PadWay.LEFT)
+		private String label;
+
+		@Override
+		public void accept(final RecordVisitor visitor) {
+		}
+	}
+
+	@TempDir
+	private Path folder;
+
+	private MappedRecordReader<ItemPojo> reader(final String content) throws IOException {
+		return new MappedRecordReader<>(new FileSystemResource(write(content)), new MojetLineMapper<>(ItemPojo.class));
+	}
+
+	private Path write(final String content) throws IOException {
+		final Path file = folder.resolve("records.txt");
+		Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+		return file;
+	}
+
+	private static <T> List<T> readAll(final MappedRecordReader<T> reader) throws Exception {
+		final List<T> result = new ArrayList<>();
+		reader.open(new ExecutionContext());
+		try {
+			for (T item = reader.read(); item != null; item = reader.read()) {
+				result.add(item);
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	@Test
+	void testLines() throws Exception {
+		final List<ItemPojo> result = readAll(reader("00001first \n00002second\n00003third \n"));
+		assertEquals(List.of(new ItemPojo(1, "first"), new ItemPojo(2, "second"), new ItemPojo(3, "third")), result);
+		assertEquals(2, readAll(reader("00001first \n00002second")).size());
+		assertTrue(readAll(reader("")).isEmpty());
+	}
+
+	@Test
+	void testWithoutSeparator() throws Exception {
+		final MappedRecordReader<ItemPojo> reader = reader("00001first 00002second00003third ");
+		reader.setSeparator("");
+		assertEquals(List.of(new ItemPojo(1, "first"), new ItemPojo(2, "second"), new ItemPojo(3, "third")), readAll(reader));
+	}
+
+	@Test
+	void testPolyRecords() throws Exception {
+		final MojetPolyLineMapper<RecordVisitable> mapper = new MojetPolyLineMapper<>(Set.of(HeaderPojo.class, DetailPojo.class));
+		final MappedRecordReader<RecordVisitable> reader = new MappedRecordReader<>(new FileSystemResource(write("H002Dfirst   Dsecond  H001Dthird   ")), mapper);
+		reader.setSeparator("");
+		reader.setWindowSize(10);
+		assertEquals(List.of(new HeaderPojo(2), new DetailPojo("first"), new DetailPojo("second"), new HeaderPojo(1), new DetailPojo("third")), readAll(reader));
+		final MappedRecordReader<RecordVisitable> unknown = new MappedRecordReader<>(new FileSystemResource(write("H002Xfirst   ")), mapper);
+		unknown.setSeparator("");
+		unknown.open(new ExecutionContext());
+		assertEquals(new HeaderPojo(2), unknown.read());
+		assertThrows(MojetRuntimeException.class, unknown::read);
+		unknown.close();
+	}
+
+	@Test
+	void testSkippedRecords() throws Exception {
+		final MojetPolyLineMapper<RecordVisitable> mapper = new MojetPolyLineMapper<>(Set.of(HeaderPojo.class, DetailPojo.class), Set.of(DetailPojo.class));
+		final MappedRecordReader<RecordVisitable> reader = new MappedRecordReader<>(new FileSystemResource(write("H002Dfirst   Dsecond  H0XXH001Dthird   H003")), mapper);
+		reader.setSeparator("");
+		assertEquals(List.of(new DetailPojo("first"), new DetailPojo("second"), new DetailPojo("third")), readAll(reader));
+	}
+
+	@Test
+	void testWindows() throws Exception {
+		final StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			content.append(String.format("%05d%-6s\r\n", i, "L" + i));
+		}
+		final MappedRecordReader<ItemPojo> reader = reader(content.toString());
+		reader.setSeparator("\r\n");
+		reader.setWindowSize(50);
+		final List<ItemPojo> result = readAll(reader);
+		assertEquals(100, result.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(new ItemPojo(i, "L" + i), result.get(i));
+		}
+	}
+
+	@Test
+	void testRestart() throws Exception {
+		final Path file = write("00001first \n00002second\n00003third \n");
+		final ExecutionContext context = new ExecutionContext();
+		final MappedRecordReader<ItemPojo> reader = new MappedRecordReader<>(new FileSystemResource(file), new MojetLineMapper<>(ItemPojo.class));
+		reader.open(context);
+		assertEquals(new ItemPojo(1, "first"), reader.read());
+		assertEquals(new ItemPojo(2, "second"), reader.read());
+		reader.update(context);
+		reader.close();
+		assertEquals(24, context.getLong("MappedRecordReader.offset"));
+		// Read records are overwritten, to fail if they are read again
+		Files.write(file, "xxxxxxxxxxxxxxxxxxxxxxxx00003third \n".getBytes(StandardCharsets.ISO_8859_1));
+		final MappedRecordReader<ItemPojo> restarted = new MappedRecordReader<>(new FileSystemResource(file), new MojetLineMapper<>(ItemPojo.class));
+		restarted.open(context);
+		assertEquals(new ItemPojo(3, "third"), restarted.read());
+		assertEquals(3, restarted.getCurrentItemCount());
+		assertNull(restarted.read());
+		restarted.close();
+	}
+
+	@Test
+	void testMalformed() throws Exception {
+		final MappedRecordReader<ItemPojo> truncated = reader("00001first \n00002");
+		truncated.open(new ExecutionContext());
+		assertNotNull(truncated.read());
+		assertThrows(MojetRuntimeException.class, truncated::read);
+		truncated.close();
+		final MappedRecordReader<ItemPojo> shifted = reader("00001first\n00002second\n");
+		shifted.open(new ExecutionContext());
+		assertThrows(MojetRuntimeException.class, shifted::read);
+		shifted.close();
+		final MappedRecordReader<ItemPojo> missing = new MappedRecordReader<>(new FileSystemResource(folder.resolve("missing.txt")), new MojetLineMapper<>(ItemPojo.class));
+		assertThrows(ItemStreamException.class, () -> missing.open(new ExecutionContext()));
+	}
+
+}
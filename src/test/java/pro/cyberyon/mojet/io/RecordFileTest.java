@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pro.cyberyon.mojet.MojetLineMapper;
+import pro.cyberyon.mojet.MojetRuntimeException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link RecordFile}
+ *
+ * @author Guillaume CHAUVET
+ */
+class RecordFileTest {
+
+	@TempDir
+	private Path folder;
+
+	private Path write(final int count, final String separator) throws Exception {
+		final String content = IntStream.range(0, count).mapToObj(i -> String.format("%05d%-6s", i, "L" + i)).collect(Collectors.joining(separator));
+		final Path file = folder.resolve("records.txt");
+		Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+		return file;
+	}
+
+	@Test
+	void testStream() throws Exception {
+		try (Stream<ItemPojo> stream = RecordFile.stream(write(1000, "\n"), ItemPojo.class)) {
+			final List<ItemPojo> result = stream.collect(Collectors.toList());
+			assertEquals(1000, result.size());
+			for (int i = 0; i < result.size(); i++) {
+				assertEquals(new ItemPojo(i, "L" + i), result.get(i));
+			}
+		}
+	}
+
+	@Test
+	void testParallel() throws Exception {
+		try (RecordFile<ItemPojo> file = RecordFile.open(write(20000, ""), new MojetLineMapper<>(ItemPojo.class), ByteCharset.ISO_8859_1, "")) {
+			assertEquals(20000, file.getCount());
+			final List<Integer> result = file.stream().parallel().map(ItemPojo::getId).collect(Collectors.toList());
+			assertEquals(IntStream.range(0, 20000).boxed().collect(Collectors.toList()), result);
+			assertEquals(199990000L, file.stream().parallel().mapToLong(ItemPojo::getId).sum());
+			final Spliterator<ItemPojo> spliterator = file.stream().spliterator();
+			assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+			final Spliterator<ItemPojo> prefix = spliterator.trySplit();
+			assertEquals(10000, prefix.estimateSize());
+			assertEquals(10000, spliterator.estimateSize());
+			assertTrue(prefix.tryAdvance(item -> assertEquals(0, item.getId())));
+			assertTrue(spliterator.tryAdvance(item -> assertEquals(10000, item.getId())));
+		}
+	}
+
+	@Test
+	void testGet() throws Exception {
+		try (RecordFile<ItemPojo> file = RecordFile.open(write(100, "\r\n"), new MojetLineMapper<>(ItemPojo.class), ByteCharset.ISO_8859_1, "\r\n")) {
+			assertEquals(100, file.getCount());
+			assertEquals(new ItemPojo(0, "L0"), file.get(0));
+			assertEquals(new ItemPojo(57, "L57"), file.get(57));
+			assertEquals(new ItemPojo(99, "L99"), file.get(99));
+			assertEquals(List.of(new ItemPojo(97, "L97"), new ItemPojo(98, "L98"), new ItemPojo(99, "L99")), file.get(97, 3));
+			assertTrue(file.get(10, 0).isEmpty());
+			assertThrows(IndexOutOfBoundsException.class, () -> file.get(100));
+			assertThrows(IndexOutOfBoundsException.class, () -> file.get(98, 3));
+		}
+	}
+
+	@Test
+	void testTruncated() throws Exception {
+		final Path file = write(3, "\n");
+		Files.writeString(file, "\n00003th", StandardCharsets.ISO_8859_1, StandardOpenOption.APPEND);
+		try (Stream<ItemPojo> stream = RecordFile.stream(file, ItemPojo.class)) {
+			assertThrows(MojetRuntimeException.class, () -> stream.collect(Collectors.toList()));
+		}
+		try (RecordFile<ItemPojo> records = RecordFile.open(file, ItemPojo.class)) {
+			assertEquals(new ItemPojo(2, "L2"), records.get(2));
+			assertThrows(MojetRuntimeException.class, () -> records.get(3));
+			assertThrows(MojetRuntimeException.class, () -> records.get(2, 2));
+		}
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+import pro.cyberyon.mojet.Fragment;
+import pro.cyberyon.mojet.MojetRuntimeException;
+import pro.cyberyon.mojet.RawRecord;
+import pro.cyberyon.mojet.Record;
+import pro.cyberyon.mojet.RecordVisitable;
+import pro.cyberyon.mojet.RecordVisitor;
+import pro.cyberyon.mojet.Zap;
+import pro.cyberyon.mojet.io.MappedRecordReaderTest.HeaderPojo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link RoutingRecordWriter}
+ *
+ * @author Guillaume CHAUVET
+ */
+class RoutingRecordWriterTest {
+
+	@Data
+	@Record
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static final class DetailPojo implements RecordVisitable<RecordVisitor> {
+		@Zap(length = 1, value = 'O')
+		@Fragment(length = 3, padder = '0', alignement = Fragment.PadWay.RIGHT)
+		private int value;
+
+		@Override
+		public void accept(final RecordVisitor visitor) {
+		}
+	}
+
+	@TempDir
+	private Path folder;
+
+	private RoutingRecordWriter<RecordVisitable<RecordVisitor>> writer() {
+		return new RoutingRecordWriter<>(Map.of(
+				HeaderPojo.class, new FileSystemResource(folder.resolve("headers.txt")), MappedRecordReaderTest.DetailPojo.class, new FileSystemResource(folder.resolve("details.txt"))));
+	}
+
+	private List<String> read(final String name) throws Exception {
+		return Files.readAllLines(folder.resolve(name), StandardCharsets.ISO_8859_1);
+	}
+
+	@Test
+	void testWrite() throws Exception {
+		final RoutingRecordWriter<RecordVisitable<RecordVisitor>> writer = writer();
+		writer.open(new ExecutionContext());
+		writer.write(Chunk.of(new HeaderPojo(2), new MappedRecordReaderTest.DetailPojo("first"), new MappedRecordReaderTest.DetailPojo("second")));
+		writer.write(Chunk.of(new HeaderPojo(1), new MappedRecordReaderTest.DetailPojo("third")));
+		writer.close();
+		assertEquals(List.of("H002", "H001"), read("headers.txt"));
+		assertEquals(List.of("Dfirst   ", "Dsecond  ", "Dthird   "), read("details.txt"));
+	}
+
+	@Test
+	void testUnknownRecord() throws Exception {
+		final RoutingRecordWriter<RecordVisitable<RecordVisitor>> writer = writer();
+		writer.open(new ExecutionContext());
+		final Chunk<RecordVisitable<RecordVisitor>> chunk = Chunk.of(new MappedRecordReaderTest.DetailPojo("lost"), visitor -> {
+		});
+		assertThrows(MojetRuntimeException.class, () -> writer.write(chunk));
+		writer.write(Chunk.of(new MappedRecordReaderTest.DetailPojo("kept")));
+		writer.close();
+		assertEquals(List.of("Dkept    "), read("details.txt"));
+	}
+
+	@Test
+	void testRestart() throws Exception {
+		final ExecutionContext context = new ExecutionContext();
+		final RoutingRecordWriter<RecordVisitable<RecordVisitor>> writer = writer();
+		writer.open(context);
+		writer.write(Chunk.of(new HeaderPojo(1), new MappedRecordReaderTest.DetailPojo("first")));
+		writer.update(context);
+		writer.write(Chunk.of(new MappedRecordReaderTest.DetailPojo("failed")));
+		writer.close();
+		assertEquals(10, context.getLong("RoutingRecordWriter." + MappedRecordReaderTest.DetailPojo.class.getName() + ".offset"));
+		final RoutingRecordWriter<RecordVisitable<RecordVisitor>> restarted = writer();
+		restarted.open(context);
+		restarted.write(Chunk.of(new MappedRecordReaderTest.DetailPojo("second")));
+		restarted.close();
+		assertEquals(List.of("H001"), read("headers.txt"));
+		assertEquals(List.of("Dfirst   ", "Dsecond  "), read("details.txt"));
+	}
+
+	@Test
+	void testSameSimpleName() throws Exception {
+		final ExecutionContext context = new ExecutionContext();
+		final RoutingRecordWriter<RecordVisitable<RecordVisitor>> writer = new RoutingRecordWriter<>(Map.of(
+				MappedRecordReaderTest.DetailPojo.class, new FileSystemResource(folder.resolve("details.txt")), RoutingRecordWriterTest.DetailPojo.class, new FileSystemResource(folder.resolve("others.txt"))));
+		writer.open(context);
+		writer.write(Chunk.of(new MappedRecordReaderTest.DetailPojo("first"), new RoutingRecordWriterTest.DetailPojo(7)));
+		writer.update(context);
+		writer.close();
+		assertEquals(10, context.getLong("RoutingRecordWriter." + MappedRecordReaderTest.DetailPojo.class.getName() + ".offset"));
+		assertEquals(5, context.getLong("RoutingRecordWriter." + RoutingRecordWriterTest.DetailPojo.class.getName() + ".offset"));
+		assertEquals(List.of("Dfirst   "), read("details.txt"));
+		assertEquals(List.of("O007"), read("others.txt"));
+	}
+
+	@Test
+	void testPassThrough() throws Exception {
+		final ExecutionContext context = new ExecutionContext();
+		final RoutingRecordWriter<RecordVisitable> writer = new RoutingRecordWriter<>(Map.of(
+				HeaderPojo.class, new FileSystemResource(folder.resolve("headers.txt"))), new FileSystemResource(folder.resolve("raws.txt")));
+		writer.setBufferSize(4);
+		writer.open(context);
+		writer.write(Chunk.of(new HeaderPojo(2), new RawRecord("Dfirst   "), new RawRecord("Dsecond  ")));
+		writer.update(context);
+		writer.close();
+		assertEquals(20, context.getLong("RoutingRecordWriter." + RawRecord.class.getName() + ".offset"));
+		assertEquals(List.of("H002"), read("headers.txt"));
+		assertEquals(List.of("Dfirst   ", "Dsecond  "), read("raws.txt"));
+		final RoutingRecordWriter<RecordVisitable<RecordVisitor>> rejecting = writer();
+		rejecting.open(new ExecutionContext());
+		final Chunk<RecordVisitable<RecordVisitor>> chunk = Chunk.of(new RawRecord("Dlost    "));
+		assertThrows(MojetRuntimeException.class, () -> rejecting.write(chunk));
+		rejecting.close();
+	}
+
+	@Test
+	void testNoOutput() {
+		assertThrows(MojetRuntimeException.class, () -> new RoutingRecordWriter<>(Map.of()));
+	}
+
+}
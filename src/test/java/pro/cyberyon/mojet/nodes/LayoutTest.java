@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.nodes;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import pro.cyberyon.mojet.ChildPojo;
+import pro.cyberyon.mojet.MojetRuntimeException;
+import pro.cyberyon.mojet.NodesBuilder;
+import pro.cyberyon.mojet.RootPojo;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit test of {@link Layout}
+ *
+ * @author Guillaume CHAUVET
+ */
+class LayoutTest {
+
+	@Test
+	void testSegments() {
+		final Layout layout = new NodesBuilder().layout(RootPojo.class);
+		assertEquals(78, layout.getLength());
+		assertEquals(18, layout.getSegments().size());
+		assertEquals(14, layout.getFragments().size());
+		final List<String> paths = layout.getFragments().stream().map(Segment::getPath).collect(Collectors.toList());
+		assertEquals(List.of("id", "child.total", "child.label", "counter", "values[0]", "values[1]", "values[2]", "space", "date", "childrens[0].total", "childrens[0].label", "childrens[1].total", "childrens[1].label", "optional"), paths);
+		int offset = 0;
+		for (Segment segment : layout.getSegments()) {
+			assertEquals(offset, segment.getStart());
+			offset = segment.getEnd();
+		}
+		final Segment segment = layout.getFragments().get(11);
+		assertEquals(56, segment.getStart());
+		assertEquals(62, segment.getEnd());
+		assertFalse(segment.isFiller());
+		assertTrue(layout.getSegments().get(1).isFiller());
+	}
+
+	@Test
+	void testSet() {
+		final Layout layout = new NodesBuilder().layout(RootPojo.class);
+		final RootPojo pojo = new RootPojo();
+		layout.getFragments().get(12).set(pojo, "USD");
+		layout.getFragments().get(5).set(pojo, 42L);
+		assertNull(pojo.getChild());
+		assertEquals(new ChildPojo(0, "USD"), pojo.getChildrens()[1]);
+		assertNull(pojo.getChildrens()[0]);
+		assertArrayEquals(new long[]{0, 42, 0}, pojo.getValues());
+	}
+
+	@Test
+	void testProject() {
+		final Layout layout = new NodesBuilder().layout(RootPojo.class);
+		final Layout projection = layout.project(List.of("counter", "values", "childrens[1]", "child.label"));
+		final List<String> paths = projection.getFragments().stream().map(Segment::getPath).collect(Collectors.toList());
+		assertEquals(List.of("child.label", "counter", "values[0]", "values[1]", "values[2]", "childrens[1].total", "childrens[1].label"), paths);
+		assertEquals(layout.getSegments(), projection.getSegments());
+		assertEquals(layout.getLength(), projection.getLength());
+		assertTrue(layout.project(List.of()).getFragments().isEmpty());
+		assertThrows(MojetRuntimeException.class, () -> layout.project(List.of("count")));
+		assertThrows(MojetRuntimeException.class, () -> layout.project(List.of("childrens[2]")));
+	}
+
+	@Test
+	void testGetWithoutAllocation() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final Segment segment = new NodesBuilder().layout(RootPojo.class).getFragments().get(12);
+		final RootPojo pojo = new RootPojo();
+		pojo.setChildrens(new ChildPojo[]{new ChildPojo(1, "EUR"), new ChildPojo(2, "USD")});
+		final int count = 100_000;
+		for (int i = 0; i < count; i++) {
+			assertEquals("USD", segment.get(pojo));
+		}
+		final long before = bean.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < count; i++) {
+			segment.get(pojo);
+		}
+		final long allocated = bean.getCurrentThreadAllocatedBytes() - before;
+		assertTrue(allocated / count < 8, "Bytes allocated per access: " + allocated / count);
+	}
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.processor;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.TextStringBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import pro.cyberyon.mojet.CompiledRecord;
+import pro.cyberyon.mojet.Engine;
+import pro.cyberyon.mojet.MojetLineAggregator;
+import pro.cyberyon.mojet.MojetLineMapper;
+import pro.cyberyon.mojet.NodesBuilder;
+
+/**
+ * Unit test of {@link RecordProcessor}
+ *
+ * @author Guillaume CHAUVET
+ */
+class RecordProcessorTest {
+
+	private static final String INVOICE = String.join("\n", "package sample;", "import java.time.LocalDate;", "import pro.cyberyon.mojet.*;", "import pro.cyberyon.mojet.Record;", "@Record", "@Zap(length = 2, value = '_')", "public class Invoice {", "	@Fragment(length = 5, padder = '0', alignement = Fragment.PadWay.RIGHT)", "	public long id;", "	@Zap(length = 1, value = '#')", "	@Fragment(length = 8, format = \"yyyyMMdd\")", "	private LocalDate date;", "	@Record", "	Item item;", "	@Record", "	@Occurences(2)", "	Item[] items;", "	@Fragment(length = 3, alignement = Fragment.PadWay.LEFT)", "	@Occurences(2)", "	public int[] codes;", "	@Fragment(length = 4, padder = '0', alignement = Fragment.PadWay.RIGHT, optional = true)", "	public Integer optional;", "	public LocalDate getDate() { return date; }", "	public void setDate(LocalDate date) { this.date = date; }", "}");
+
+	private static final String ITEM = String.join("\n", "package sample;", "import pro.cyberyon.mojet.*;", "import pro.cyberyon.mojet.Record;", "@Record", "public class Item {", "	@Fragment(length = 3)", "	public String label;", "	@Fragment(length = 2, padder = '0', alignement = Fragment.PadWay.RIGHT)", "	public short quantity;", "}");
+
+	private static final String HIDDEN = String.join("\n", "package sample;", "import pro.cyberyon.mojet.*;", "import pro.cyberyon.mojet.Record;", "@Record", "public class Hidden {", "	@Fragment(length = 3)", "	private String value;", "}");
+
+	private static final String WIDE = String.join("\n", "package sample;", "import pro.cyberyon.mojet.*;", "import pro.cyberyon.mojet.Record;", "@Record", "public class Wide {", IntStream.range(0, 100).mapToObj(i -> "	@Fragment(length = 2) public int value" + i + ";").collect(Collectors.joining("\n")), "	@Fragment(length = 2)", "	@Occurences(1000)", "	public int[] values;", "}");
+
+	private static final String REPEATED = String.join("\n", "package sample;", "import pro.cyberyon.mojet.*;", "import pro.cyberyon.mojet.Record;", "@Record", "public class Repeated {", "	@Fragment(length = 2, padder = '0', alignement = Fragment.PadWay.RIGHT)", "	@Occurences(5000)", "	public int[] values;", "}");
+
+	private static final String PADDED = String.join("\n", "package sample;", "import pro.cyberyon.mojet.*;", "import pro.cyberyon.mojet.Record;", "@Record", "@Zap(length = 1, value = '\\r')", "public class Padded {", "	@Fragment(length = 4, padder = '\\n', alignement = Fragment.PadWay.LEFT)", "	public String text;", "	@Fragment(length = 2, padder = '\\u00e9', alignement = Fragment.PadWay.RIGHT)", "	public String accent;", "}");
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testGeneration() throws Exception {
+		final Path sources = Files.createDirectories(directory.resolve("src/sample"));
+		final Path classes = Files.createDirectories(directory.resolve("classes"));
+		Files.writeString(sources.resolve("Invoice.java"), INVOICE);
+		Files.writeString(sources.resolve("Item.java"), ITEM);
+		Files.writeString(sources.resolve("Hidden.java"), HIDDEN);
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final int status = compiler.run(null, null, null, "-processor", RecordProcessor.class.getName(), "-classpath", classpath(), "-d", classes.toString(), "-s", directory.toString(), sources.resolve("Invoice.java").toString(), sources.resolve("Item.java").toString(), sources.resolve("Hidden.java").toString());
+		assertEquals(0, status);
+		assertTrue(Files.exists(directory.resolve("sample/Invoice_MojetRecord.java")));
+		assertTrue(Files.exists(directory.resolve("sample/Item_MojetRecord.java")));
+		assertFalse(Files.exists(directory.resolve("sample/Hidden_MojetRecord.java")));
+		final String source = Files.readString(directory.resolve("sample/Invoice_MojetRecord.java"));
+		assertTrue(source.contains("r0.id = ((Codec.OfLong) H0).readLong(line, f, t);"));
+		assertTrue(source.contains("((Codec.OfInt) H6).writeInt(a[i])"));
+		assertTrue(source.contains("map1(line, a7, k1, 29 + k1 * 3);"));
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+			final List<String> generated = ServiceLoader.load(CompiledRecord.class, loader).stream().map(p -> p.type().getName()).sorted().collect(Collectors.toList());
+			assertEquals(List.of("sample.Invoice_MojetRecord", "sample.Item_MojetRecord"), generated);
+
+			final Class<Object> type = (Class<Object>) loader.loadClass("sample.Invoice");
+			final String line = "00042#20250729ABC07DEF01GHI027  12 0012__";
+			final MojetLineMapper<Object> mapper = new MojetLineMapper<>(new NodesBuilder(), type, Engine.GENERATED);
+			final Object result = mapper.mapLine(line, 1);
+			assertEquals(42L, type.getDeclaredField("id").get(result));
+			assertEquals(LocalDate.of(2025, Month.JULY, 29), type.getMethod("getDate").invoke(result));
+			assertArrayEquals(new int[]{7, 12}, (int[]) type.getDeclaredField("codes").get(result));
+			assertEquals(12, type.getDeclaredField("optional").get(result));
+			assertEquals(line, new MojetLineAggregator<>(new NodesBuilder(), type, Engine.GENERATED).aggregate(result));
+
+			final CompiledRecord<Object> compiled = ServiceLoader.load(CompiledRecord.class, loader).stream().map(ServiceLoader.Provider::get).filter(c -> c.getType() == type).findFirst().orElseThrow();
+			final Object unset = compiled.map(StringUtils.replace(line, "0012", "ABCD"));
+			assertNull(type.getDeclaredField("optional").get(unset));
+			final TextStringBuilder output = new TextStringBuilder();
+			compiled.aggregate(unset, output);
+			assertEquals(StringUtils.replace(line, "0012", "0000"), output.toString());
+		}
+	}
+
+	@Test
+	void testIncrementalRegistration() throws Exception {
+		final Path sources = Files.createDirectories(directory.resolve("src/sample"));
+		final Path classes = Files.createDirectories(directory.resolve("classes"));
+		Files.writeString(sources.resolve("Invoice.java"), INVOICE);
+		Files.writeString(sources.resolve("Item.java"), ITEM);
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertEquals(0, compiler.run(null, null, null, "-processor", RecordProcessor.class.getName(), "-classpath", classpath(), "-d", classes.toString(), "-s", directory.toString(), sources.resolve("Invoice.java").toString(), sources.resolve("Item.java").toString()));
+		final String incremental = classpath() + File.pathSeparator + classes;
+		assertEquals(0, compiler.run(null, null, null, "-processor", RecordProcessor.class.getName(), "-classpath", incremental, "-d", classes.toString(), "-s", directory.toString(), sources.resolve("Item.java").toString()));
+		final Path services = classes.resolve("META-INF/services/" + CompiledRecord.class.getName());
+		assertEquals(List.of("sample.Invoice_MojetRecord", "sample.Item_MojetRecord"), Files.readAllLines(services));
+	}
+
+	@Test
+	void testSize() throws Exception {
+		final Path sources = Files.createDirectories(directory.resolve("src/sample"));
+		final Path classes = Files.createDirectories(directory.resolve("classes"));
+		Files.writeString(sources.resolve("Wide.java"), WIDE);
+		Files.writeString(sources.resolve("Repeated.java"), REPEATED);
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertEquals(0, compiler.run(null, null, null, "-processor", RecordProcessor.class.getName(), "-classpath", classpath(), "-d", classes.toString(), "-s", directory.toString(), sources.resolve("Wide.java").toString(), sources.resolve("Repeated.java").toString()));
+		assertFalse(Files.exists(directory.resolve("sample/Wide_MojetRecord.java")));
+		assertTrue(Files.exists(directory.resolve("sample/Repeated_MojetRecord.java")));
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+			final Class<Object> type = (Class<Object>) loader.loadClass("sample.Repeated");
+			final String line = "0123456789".repeat(1000);
+			final Object result = new MojetLineMapper<>(new NodesBuilder(), type, Engine.GENERATED).mapLine(line, 1);
+			assertEquals(89, ((int[]) type.getDeclaredField("values").get(result))[4999]);
+			assertEquals(line, new MojetLineAggregator<>(new NodesBuilder(), type, Engine.GENERATED).aggregate(result));
+		}
+	}
+
+	@Test
+	void testEscapes() throws Exception {
+		final Path sources = Files.createDirectories(directory.resolve("src/sample"));
+		final Path classes = Files.createDirectories(directory.resolve("classes"));
+		Files.writeString(sources.resolve("Padded.java"), PADDED);
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertEquals(0, compiler.run(null, null, null, "-processor", RecordProcessor.class.getName(), "-classpath", classpath(), "-d", classes.toString(), "-s", directory.toString(), sources.resolve("Padded.java").toString()));
+		final String source = Files.readString(directory.resolve("sample/Padded_MojetRecord.java"));
+		assertTrue(source.contains("'\\012'"));
+		assertTrue(source.contains("'\\015'"));
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+			final Class<Object> type = (Class<Object>) loader.loadClass("sample.Padded");
+			final String line = "ab\n\n\u00e9c\r";
+			final Object result = new MojetLineMapper<>(new NodesBuilder(), type, Engine.GENERATED).mapLine(line, 1);
+			assertEquals("ab", type.getDeclaredField("text").get(result));
+			assertEquals("c", type.getDeclaredField("accent").get(result));
+			assertEquals(line, new MojetLineAggregator<>(new NodesBuilder(), type, Engine.GENERATED).aggregate(result));
+		}
+	}
+
+	private static String classpath() throws URISyntaxException {
+		return Stream.of(CompiledRecord.class, TextStringBuilder.class, StringUtils.class).map(c -> c.getProtectionDomain().getCodeSource().getLocation()).map(RecordProcessorTest::toPath).collect(Collectors.joining(File.pathSeparator));
+	}
+
+	private static String toPath(final URL url) {
+		try {
+			return Path.of(url.toURI()).toString();
+		} catch (URISyntaxException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of boolean type handler
+ *
+ * @author Guillaume CHAUVET
+ */
+class BooleanTypeHandlerTest {
+
+	private final BooleanTypeHandler instance = new BooleanTypeHandler();
+
+	@Test
+	void testAccept() {
+		assertFalse(instance.accept(null));
+		assertFalse(instance.accept(String.class));
+		assertTrue(instance.accept(Boolean.class));
+		assertTrue(instance.accept(boolean.class));
+	}
+
+	@Test
+	void testRead() {
+		assertNull(instance.read(null, null));
+		assertTrue(instance.read("1", null));
+		assertFalse(instance.read("0", null));
+		assertTrue(instance.readBoolean("##YES##", 2, 5, "YES|NO"));
+		assertFalse(instance.readBoolean("##NO##", 2, 4, "YES|NO"));
+		assertThrows(IllegalArgumentException.class, () -> instance.read("Y", null));
+		assertThrows(IllegalArgumentException.class, () -> instance.read("Y", "YN"));
+	}
+
+	@Test
+	void testBind() {
+		final Codec.OfBoolean codec = instance.bind("O|N", 1);
+		assertTrue(codec.readBoolean("O", 0, 1));
+		assertNull(codec.read("", 0, 0));
+		assertEquals("N", codec.writeBoolean(false));
+		assertThrows(IllegalArgumentException.class, () -> instance.bind("YES|NO", 2));
+		assertThrows(IllegalArgumentException.class, () -> instance.bind("YN", 2));
+	}
+
+	@Test
+	void testWrite() {
+		assertEquals("", instance.write(null, null));
+		assertEquals("1", instance.write(true, null));
+		assertEquals("0", instance.writeBoolean(false, null));
+		assertEquals("NO", instance.writeBoolean(false, "YES|NO"));
+	}
+
+}
@@ -43,6 +43,12 @@ class ByteTypeHandlerTest {
 		assertEquals((byte) 0, instance.read("0", null));
 	}
 
+	@Test
+	void testReadRange() {
+		assertEquals((byte) 12, instance.read("##12##", 2, 4, null));
+		assertThrows(NumberFormatException.class, () -> instance.read("128", 0, 3, null));
+	}
+
 	@Test
 	void testWrite() {
 		assertEquals("", instance.write(null, null));
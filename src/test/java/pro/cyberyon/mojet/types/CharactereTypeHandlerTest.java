@@ -42,6 +42,11 @@ class CharactereTypeHandlerTest {
 		assertEquals('t', instance.read("t", null));
 	}
 
+	@Test
+	void testReadRange() {
+		assertEquals('B', instance.read("ABC", 1, 2, null));
+	}
+
 	@Test
 	void testWrite() {
 		assertEquals("", instance.write(null, null));
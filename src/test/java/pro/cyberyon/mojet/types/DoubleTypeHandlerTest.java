@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of double type handler
+ *
+ * @author Guillaume CHAUVET
+ */
+class DoubleTypeHandlerTest {
+
+	private final DoubleTypeHandler instance = new DoubleTypeHandler();
+
+	@Test
+	void testAccept() {
+		assertFalse(instance.accept(null));
+		assertFalse(instance.accept(Float.class));
+		assertTrue(instance.accept(Double.class));
+		assertTrue(instance.accept(double.class));
+	}
+
+	@Test
+	void testRead() {
+		assertNull(instance.read(null, null));
+		assertEquals(12.5, instance.read("12.5", null));
+		assertEquals(-0.25, instance.read("##-0.25", 2, 7, null));
+		assertEquals(3.0, instance.readDouble("3", 0, 1, null));
+	}
+
+	@Test
+	void testWrite() {
+		assertEquals("", instance.write(null, null));
+		assertEquals("12.5", instance.write(12.5, null));
+		assertEquals("-0.25", instance.writeDouble(-0.25, null));
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of {@link FixedTemporal}, checked against {@link DateTimeFormatter}
+ *
+ * @author Guillaume CHAUVET
+ */
+class FixedTemporalTest {
+
+	@Test
+	void testOf() {
+		assertNull(FixedTemporal.of(null));
+		assertNull(FixedTemporal.of(""));
+		assertNull(FixedTemporal.of("yyyyMMMdd"));
+		assertNull(FixedTemporal.of("yyyyyMMdd"));
+		assertNull(FixedTemporal.of("yyyy'T'MMdd"));
+		assertNull(FixedTemporal.of("yyyyMMdd[HH]"));
+		assertNull(FixedTemporal.of("ddMMyyyydd"));
+		assertNull(FixedTemporal.of("yyyy0MM"));
+		assertEquals(FixedTemporal.YEAR | FixedTemporal.MONTH | FixedTemporal.DAY, FixedTemporal.of("dd/MM/yyyy").getFields());
+		assertEquals(FixedTemporal.HOUR | FixedTemporal.MINUTE | FixedTemporal.SECOND, FixedTemporal.of("HH:mm:ss").getFields());
+	}
+
+	@Test
+	void testLocalDate() {
+		for (String pattern : new String[]{"yyyyMMdd", "yyMMdd", "ddMMyyyy", "uuuu-MM-dd", "dd/MM/yy"}) {
+			final FixedTemporal fixed = FixedTemporal.of(pattern);
+			final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+			for (LocalDate date : new LocalDate[]{LocalDate.of(2025, Month.JULY, 29), LocalDate.of(2000, Month.FEBRUARY, 29), LocalDate.of(1999, Month.DECEMBER, 31)}) {
+				final String text = formatter.format(date);
+				assertEquals(text, fixed.format(date));
+				check(formatter, LocalDate::from, () -> fixed.toLocalDate(text, 0, text.length()), text);
+			}
+		}
+		final FixedTemporal fixed = FixedTemporal.of("yyyyMMdd");
+		final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+		for (String text : new String[]{"20230230", "20230231", "20240231", "20230232", "20231301", "20230001", "20230100", "00000101", "2023013", "202301011", "2023-1-1", "+0230101", "2023 101"}) {
+			check(formatter, LocalDate::from, () -> fixed.toLocalDate(text, 0, text.length()), text);
+		}
+		assertEquals(LocalDate.of(2023, Month.JANUARY, 1), fixed.toLocalDate("##20230101##", 2, 10));
+		assertNull(fixed.format(LocalDate.of(12345, Month.JANUARY, 1)));
+		assertNull(fixed.format(LocalDate.of(-5, Month.JANUARY, 1)));
+		assertEquals(LocalDate.of(0, Month.JANUARY, 1), FixedTemporal.of("uuuuMMdd").toLocalDate("00000101", 0, 8));
+	}
+
+	@Test
+	void testTime() {
+		final FixedTemporal fixed = FixedTemporal.of("HHmmss");
+		final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HHmmss");
+		for (String text : new String[]{"000000", "235959", "240000", "240001", "236000", "230060", "12345"}) {
+			check(formatter, LocalTime::from, () -> fixed.toLocalTime(text, 0, text.length()), text);
+		}
+		assertEquals("134502", fixed.format(LocalTime.of(13, 45, 2)));
+		assertEquals(LocalTime.of(13, 45), FixedTemporal.of("HH:mm").toLocalTime("13:45", 0, 5));
+	}
+
+	@Test
+	void testOthers() {
+		final FixedTemporal dateTime = FixedTemporal.of("yyyyMMddHHmmss");
+		final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+		for (String text : new String[]{"20231231240000", "20230231120000", "20231231235959", "20231231250000"}) {
+			check(formatter, LocalDateTime::from, () -> dateTime.toLocalDateTime(text, 0, text.length()), text);
+		}
+		assertEquals("20250729134502", dateTime.format(LocalDateTime.of(2025, Month.JULY, 29, 13, 45, 2)));
+		final FixedTemporal yearMonth = FixedTemporal.of("yyMM");
+		assertEquals(YearMonth.of(2025, Month.JULY), yearMonth.toYearMonth("2507", 0, 4));
+		assertThrows(DateTimeParseException.class, () -> yearMonth.toYearMonth("2513", 0, 4));
+		assertEquals("2507", yearMonth.format(YearMonth.of(1925, Month.JULY)));
+	}
+
+	private static <T extends TemporalAccessor> void check(final DateTimeFormatter formatter, final TemporalQuery<T> query, final Supplier<T> fixed, final String text) {
+		T expected;
+		try {
+			expected = formatter.parse(text, query);
+		} catch (DateTimeParseException ex) {
+			expected = null;
+		}
+		if (expected == null) {
+			assertThrows(DateTimeParseException.class, fixed::get, text);
+		} else {
+			assertEquals(expected, fixed.get(), text);
+		}
+	}
+
+}
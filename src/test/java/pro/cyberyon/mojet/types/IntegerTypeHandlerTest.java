@@ -43,6 +43,29 @@ class IntegerTypeHandlerTest {
 		assertEquals(1985, instance.read("1985", null));
 	}
 
+	@Test
+	void testReadRange() {
+		assertNull(instance.read("  ", 1, 1, null));
+		assertEquals(1985, instance.read("  1985  ", 2, 6, null));
+		assertEquals(-42, instance.read("0-42", 1, 4, null));
+		assertThrows(NumberFormatException.class, () -> instance.read("19 85", 0, 5, null));
+	}
+
+	@Test
+	void testPrimitive() {
+		assertEquals(1985, instance.readInt("##1985", 2, 6, null));
+		assertEquals("-42", instance.writeInt(-42, null));
+	}
+
+	@Test
+	void testBind() {
+		final Codec.OfInt codec = instance.bind(null, 4);
+		assertEquals(1985, codec.readInt("1985", 0, 4));
+		assertNull(codec.read("1985", 2, 2));
+		assertEquals("42", codec.writeInt(42));
+		assertEquals("", codec.write(null));
+	}
+
 	@Test
 	void testWrite() {
 		assertEquals("", instance.write(null, null));
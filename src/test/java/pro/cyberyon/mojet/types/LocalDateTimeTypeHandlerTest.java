@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of local date time type handler
+ *
+ * @author Guillaume CHAUVET
+ */
+class LocalDateTimeTypeHandlerTest {
+
+	private final LocalDateTimeTypeHandler instance = new LocalDateTimeTypeHandler();
+
+	@Test
+	void testAccept() {
+		assertFalse(instance.accept(null));
+		assertFalse(instance.accept(String.class));
+		assertTrue(instance.accept(LocalDateTime.class));
+	}
+
+	@Test
+	void testRead() {
+		assertNull(instance.read(null, null));
+		assertEquals(LocalDateTime.of(2025, Month.JULY, 29, 13, 45, 2), instance.read("2025-07-29T13:45:02", null));
+		assertEquals(LocalDateTime.of(2025, Month.JULY, 29, 13, 45), instance.read("202507291345", "yyyyMMddHHmm"));
+	}
+
+	@Test
+	void testBind() {
+		final Codec<LocalDateTime> codec = instance.bind("yyyyMMddHHmmss", 14);
+		assertEquals(LocalDateTime.of(2025, Month.JULY, 29, 13, 45, 2), codec.read("20250729134502", 0, 14));
+		assertEquals("20250729134502", codec.write(LocalDateTime.of(2025, Month.JULY, 29, 13, 45, 2)));
+		assertEquals("+100000729134502", codec.write(LocalDateTime.of(10000, Month.JULY, 29, 13, 45, 2)));
+	}
+
+	@Test
+	void testWrite() {
+		assertEquals("", instance.write(null, null));
+		assertEquals("20250729", instance.write(LocalDateTime.of(2025, Month.JULY, 29, 13, 45), "yyyyMMdd"));
+	}
+
+}
@@ -45,6 +45,21 @@ class LocalDateTypeHandlerTest {
 		assertEquals(LocalDate.of(2003, Month.FEBRUARY, 1), instance.read("01-02-03", "dd-MM-uu"));
 	}
 
+	@Test
+	void testReadRange() {
+		assertEquals(LocalDate.of(2003, Month.FEBRUARY, 1), instance.read("##01-02-03##", 2, 10, "dd-MM-uu"));
+	}
+
+	@Test
+	void testBind() {
+		final Codec<LocalDate> codec = instance.bind("yyyyMMdd", 8);
+		assertNull(codec.read("##", 1, 1));
+		assertEquals(LocalDate.of(2003, Month.FEBRUARY, 1), codec.read("##20030201", 2, 10));
+		assertEquals("20010317", codec.write(LocalDate.of(2001, Month.MARCH, 17)));
+		assertEquals("", codec.write(null));
+		assertThrows(IllegalArgumentException.class, () -> instance.bind("yyyy{", 8));
+	}
+
 	@Test
 	void testWrite() {
 		assertEquals("", instance.write(null, null));
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of local time type handler
+ *
+ * @author Guillaume CHAUVET
+ */
+class LocalTimeTypeHandlerTest {
+
+	private final LocalTimeTypeHandler instance = new LocalTimeTypeHandler();
+
+	@Test
+	void testAccept() {
+		assertFalse(instance.accept(null));
+		assertFalse(instance.accept(String.class));
+		assertTrue(instance.accept(LocalTime.class));
+	}
+
+	@Test
+	void testRead() {
+		assertNull(instance.read(null, null));
+		assertEquals(LocalTime.of(13, 45, 2), instance.read("13:45:02", null));
+		assertEquals(LocalTime.of(13, 45), instance.read("1345", "HHmm"));
+		assertEquals(LocalTime.of(1, 2, 3), instance.read("##010203", 2, 8, "HHmmss"));
+	}
+
+	@Test
+	void testBind() {
+		final Codec<LocalTime> fixed = instance.bind("HHmmss", 6);
+		assertEquals(LocalTime.of(13, 45, 2), fixed.read("134502", 0, 6));
+		assertEquals("134502", fixed.write(LocalTime.of(13, 45, 2)));
+		final Codec<LocalTime> formatted = instance.bind("hh:mm a", 8);
+		assertEquals(LocalTime.of(13, 45), formatted.read("01:45 PM", 0, 8));
+		assertEquals("", formatted.write(null));
+	}
+
+	@Test
+	void testWrite() {
+		assertEquals("", instance.write(null, null));
+		assertEquals("13:45:02", instance.write(LocalTime.of(13, 45, 2), null));
+	}
+
+}
@@ -42,6 +42,18 @@ class LongTypeHandlerTest {
 		assertEquals(1985, instance.read("1985", null));
 	}
 
+	@Test
+	void testReadRange() {
+		assertNull(instance.read("", 0, 0, null));
+		assertEquals(1985L, instance.read("##1985##", 2, 6, null));
+	}
+
+	@Test
+	void testPrimitive() {
+		assertEquals(1985L, instance.readLong("##1985", 2, 6, null));
+		assertEquals("-42", instance.writeLong(-42L, null));
+	}
+
 	@Test
 	void testWrite() {
 		assertEquals("", instance.write(null, null));
@@ -43,6 +43,12 @@ class ShortTypeHandlerTest {
 		assertEquals((short) 1985, instance.read("1985", null));
 	}
 
+	@Test
+	void testReadRange() {
+		assertEquals((short) 1985, instance.read("##1985##", 2, 6, null));
+		assertThrows(NumberFormatException.class, () -> instance.read("99999", 0, 5, null));
+	}
+
 	@Test
 	void testWrite() {
 		assertEquals("", instance.write(null, null));
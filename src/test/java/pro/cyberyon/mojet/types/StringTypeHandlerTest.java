@@ -42,6 +42,12 @@ class StringTypeHandlerTest {
 		assertEquals("€éàÉ", instance.read("€éàÉ", null));
 	}
 
+	@Test
+	void testReadRange() {
+		assertNull(instance.read("ABC", 1, 1, null));
+		assertEquals("BC", instance.read("ABCD", 1, 3, null));
+	}
+
 	@Test
 	void testWrite() {
 		assertEquals("", instance.write("", null));
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Guillaume CHAUVET.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pro.cyberyon.mojet.types;
+
+import java.time.Month;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test of year month type handler
+ *
+ * @author Guillaume CHAUVET
+ */
+class YearMonthTypeHandlerTest {
+
+	private final YearMonthTypeHandler instance = new YearMonthTypeHandler();
+
+	@Test
+	void testAccept() {
+		assertFalse(instance.accept(null));
+		assertFalse(instance.accept(String.class));
+		assertTrue(instance.accept(YearMonth.class));
+	}
+
+	@Test
+	void testRead() {
+		assertNull(instance.read(null, null));
+		assertEquals(YearMonth.of(2025, Month.JULY), instance.read("2025-07", null));
+		assertEquals(YearMonth.of(2025, Month.JULY), instance.read("07/25", "MM/yy"));
+	}
+
+	@Test
+	void testBind() {
+		final Codec<YearMonth> codec = instance.bind("yyyyMM", 6);
+		assertEquals(YearMonth.of(2025, Month.JULY), codec.read("202507", 0, 6));
+		assertEquals("202507", codec.write(YearMonth.of(2025, Month.JULY)));
+		assertNull(codec.read("", 0, 0));
+	}
+
+	@Test
+	void testWrite() {
+		assertEquals("", instance.write(null, null));
+		assertEquals("2025-07", instance.write(YearMonth.of(2025, Month.JULY), null));
+	}
+
+}